@@ -1,18 +1,40 @@
 package com.mongenscave.mcchatsetup;
 
 import com.mongenscave.mcchatsetup.builder.ChatSessionBuilder;
+import com.mongenscave.mcchatsetup.engine.SessionEngine;
+import com.mongenscave.mcchatsetup.identifiers.ChatIsolation;
+import com.mongenscave.mcchatsetup.identifiers.ConflictPolicy;
+import com.mongenscave.mcchatsetup.identifiers.CountdownDisplay;
+import com.mongenscave.mcchatsetup.identifiers.FloodAction;
 import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.keyword.ControlKeywords;
 import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
 import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.model.PollResult;
+import com.mongenscave.mcchatsetup.normalization.InputNormalization;
+import com.mongenscave.mcchatsetup.suggestion.SuggestionProvider;
+import com.mongenscave.mcchatsetup.template.PromptTemplate;
+import com.mongenscave.mcchatsetup.transport.PluginMessageTransport;
+import com.mongenscave.mcchatsetup.transport.SessionTransport;
+import com.mongenscave.mcchatsetup.validation.ValidationRules;
 import lombok.Getter;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -20,6 +42,8 @@ import java.util.function.Predicate;
  * Provides a simplified interface for creating and managing chat sessions.
  * This class maintains backward compatibility with the original API while supporting
  * new input types like ANVIL and SIGN.
+ * All instances share one process-wide {@link SessionEngine}; each instance only tracks
+ * the sessions owned by its plugin.
  */
 public final class McChatSetup {
 
@@ -34,7 +58,7 @@ public final class McChatSetup {
      */
     public McChatSetup(JavaPlugin plugin) {
         this.plugin = plugin;
-        this.sessionManager = new ChatSessionManager(plugin);
+        this.sessionManager = SessionEngine.obtain(plugin).getSessionManager();
         this.builder = ChatSessionBuilder.create(plugin);
     }
 
@@ -71,6 +95,18 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Adds multiple players to listen for chat inputs from.
+     *
+     * @param players The players to add
+     * @return This instance for method chaining
+     */
+    @Contract("_ -> this")
+    public McChatSetup addPlayers(Collection<? extends Player> players) {
+        players.forEach(builder::addPlayer);
+        return this;
+    }
+
     /**
      * Sets the message to display to the player.
      * Supports MiniMessage format with placeholders.
@@ -83,6 +119,31 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Sets the message shown to players whose client uses a locale.
+     * Each locale is rendered once and cached, so group prompts render once per language instead of per player.
+     *
+     * @param locale The locale, for example {@link Locale#GERMAN}
+     * @param message The MiniMessage message for the locale
+     * @return This instance for method chaining
+     */
+    public McChatSetup append(Locale locale, String message) {
+        builder.withLocalizedMessage(locale, message);
+        return this;
+    }
+
+    /**
+     * Uses a translation key resolved through Adventure's global translator as the message.
+     * The time limit and cancel keyword are passed as arguments {0} and {1}.
+     *
+     * @param translationKey The translation key
+     * @return This instance for method chaining
+     */
+    public McChatSetup appendTranslatable(String translationKey) {
+        builder.withTranslationKey(translationKey);
+        return this;
+    }
+
     /**
      * Sets the time limit for the input in seconds.
      *
@@ -105,6 +166,29 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Times the prompt out after a period without input; every message from the player restarts the timer.
+     * Also sets the time limit to the idle timeout; call {@link #setTime(Duration)} afterwards for a longer first window.
+     *
+     * @param idleTimeout The time allowed between inputs
+     * @return This instance for method chaining
+     */
+    public McChatSetup setIdleTimeout(Duration idleTimeout) {
+        builder.withIdleTimeout(idleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the longest the prompt can stay open, regardless of input and extensions.
+     *
+     * @param maxLifetime The maximum lifetime
+     * @return This instance for method chaining
+     */
+    public McChatSetup setMaxLifetime(Duration maxLifetime) {
+        builder.withMaxLifetime(maxLifetime);
+        return this;
+    }
+
     /**
      * Sets the callback to execute on successful input.
      *
@@ -138,6 +222,28 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Sets the callback receiving both the normalized input and the input as the player sent it.
+     *
+     * @param onRawInput The callback receiving the normalized and the raw input
+     * @return This instance for method chaining
+     */
+    public McChatSetup onRawInput(BiConsumer<String, String> onRawInput) {
+        builder.onRawInput(onRawInput);
+        return this;
+    }
+
+    /**
+     * Normalizes input once before control keywords, the validator and the callbacks see it.
+     *
+     * @param normalization The normalization steps, for example {@link InputNormalization#standard()}
+     * @return This instance for method chaining
+     */
+    public McChatSetup normalize(InputNormalization normalization) {
+        builder.withNormalization(normalization);
+        return this;
+    }
+
     /**
      * Sets the validator to check if input is valid.
      *
@@ -182,6 +288,245 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Sets how the session handles players that are already in another prompt.
+     * Defaults to {@link ConflictPolicy#REPLACE}.
+     *
+     * @param conflictPolicy The conflict policy to use
+     * @return This instance for method chaining
+     */
+    public McChatSetup onConflict(ConflictPolicy conflictPolicy) {
+        builder.withConflictPolicy(conflictPolicy);
+        return this;
+    }
+
+    /**
+     * Shows a live countdown of the remaining time to the players.
+     *
+     * @param countdownDisplay Where to show the countdown
+     * @return This instance for method chaining
+     */
+    public McChatSetup showCountdown(CountdownDisplay countdownDisplay) {
+        builder.withCountdown(countdownDisplay);
+        return this;
+    }
+
+    /**
+     * Shows a live countdown of the remaining time to the players with a custom format.
+     * Supports the {@code <time>} placeholder.
+     *
+     * @param countdownDisplay Where to show the countdown
+     * @param format The MiniMessage countdown format
+     * @return This instance for method chaining
+     */
+    public McChatSetup showCountdown(CountdownDisplay countdownDisplay, String format) {
+        builder.withCountdown(countdownDisplay);
+        builder.withCountdownFormat(format);
+        return this;
+    }
+
+    /**
+     * Holds back other players' chat while the players are answering and replays or
+     * summarizes it once they are done. Keeps the last 50 messages per player.
+     *
+     * @param chatIsolation The isolation mode to use
+     * @return This instance for method chaining
+     */
+    public McChatSetup isolateChat(ChatIsolation chatIsolation) {
+        return isolateChat(chatIsolation, 50);
+    }
+
+    /**
+     * Holds back other players' chat while the players are answering and replays or
+     * summarizes it once they are done.
+     *
+     * @param chatIsolation The isolation mode to use
+     * @param bufferSize The maximum number of messages kept per player, oldest dropped first
+     * @return This instance for method chaining
+     */
+    public McChatSetup isolateChat(ChatIsolation chatIsolation, int bufferSize) {
+        builder.withChatIsolation(chatIsolation, bufferSize);
+        return this;
+    }
+
+    /**
+     * Collects one answer from every player instead of ending on the first valid input.
+     * {@link #onInput(Consumer)} runs for each answer; the session ends when everyone answered,
+     * the quorum is reached or time runs out.
+     *
+     * @return This instance for method chaining
+     */
+    public McChatSetup collectAll() {
+        builder.collectAll(true);
+        return this;
+    }
+
+    /**
+     * Sets the number of answers that completes a collect-all session early.
+     *
+     * @param quorum The quorum, or 0 to wait for every player
+     * @return This instance for method chaining
+     */
+    public McChatSetup setQuorum(int quorum) {
+        builder.withQuorum(quorum);
+        return this;
+    }
+
+    /**
+     * Sets the callback receiving the answers and tallies of a collect-all session.
+     *
+     * @param onResult The callback to execute
+     * @return This instance for method chaining
+     */
+    public McChatSetup onResult(Consumer<PollResult> onResult) {
+        builder.onResult(onResult);
+        return this;
+    }
+
+    /**
+     * Limits how fast each player can submit chat input.
+     * Excess input is handled before control keywords or the validator run.
+     *
+     * @param burst The number of inputs allowed in quick succession
+     * @param perSecond The sustained number of inputs allowed per second
+     * @param action Whether to drop, delay or fail on excess input
+     * @return This instance for method chaining
+     */
+    public McChatSetup limitInput(int burst, double perSecond, FloodAction action) {
+        builder.withRateLimit(burst, perSecond, action);
+        return this;
+    }
+
+    /**
+     * Sets declarative validation rules instead of a custom validator.
+     * Rules can be built in code or loaded with {@link ValidationRules#fromConfig}.
+     *
+     * @param rules The validation rules
+     * @return This instance for method chaining
+     */
+    public McChatSetup withRules(ValidationRules rules) {
+        builder.withRules(rules);
+        return this;
+    }
+
+    /**
+     * Sets control keywords such as cancel, back, skip and help, with aliases per locale.
+     * Replaces the single cancel command set with {@link #setCancel(String)}.
+     *
+     * @param keywords The control keywords
+     * @return This instance for method chaining
+     */
+    public McChatSetup withKeywords(ControlKeywords keywords) {
+        builder.withKeywords(keywords);
+        return this;
+    }
+
+    /**
+     * Sets the action to perform when a player types the back keyword.
+     * Runs instead of the failure callback.
+     *
+     * @param onBack The action to perform
+     * @return This instance for method chaining
+     */
+    public McChatSetup onBack(Runnable onBack) {
+        builder.onBack(onBack);
+        return this;
+    }
+
+    /**
+     * Sets the action to perform when a player types the skip keyword.
+     * Runs instead of the failure callback.
+     *
+     * @param onSkip The action to perform
+     * @return This instance for method chaining
+     */
+    public McChatSetup onSkip(Runnable onSkip) {
+        builder.onSkip(onSkip);
+        return this;
+    }
+
+    /**
+     * Sets the action to perform when a player types the help keyword.
+     * The prompt is shown again and the session keeps running.
+     *
+     * @param onHelp The action to perform
+     * @return This instance for method chaining
+     */
+    public McChatSetup onHelp(Runnable onHelp) {
+        builder.onHelp(onHelp);
+        return this;
+    }
+
+    /**
+     * Offers chat completions to players while the prompt is active.
+     * Suggestions are computed asynchronously and cached per provider, so reuse provider instances.
+     *
+     * @param provider The suggestion provider, for example {@link SuggestionProvider#ONLINE_PLAYERS}
+     * @return This instance for method chaining
+     */
+    public McChatSetup suggest(SuggestionProvider provider) {
+        builder.withSuggestions(provider);
+        return this;
+    }
+
+    /**
+     * Adds a clickable answer button below the prompt.
+     * A click completes the prompt with the value directly, without the player typing it.
+     *
+     * @param value The input submitted when the button is clicked
+     * @param label The MiniMessage label of the button
+     * @return This instance for method chaining
+     */
+    public McChatSetup choice(String value, String label) {
+        builder.withChoice(value, label);
+        return this;
+    }
+
+    /**
+     * Adds a clickable answer button for each value.
+     *
+     * @param values The input values
+     * @return This instance for method chaining
+     */
+    public McChatSetup choices(String... values) {
+        builder.withChoices(List.of(values));
+        return this;
+    }
+
+    /**
+     * Applies a prompt template loaded from YAML.
+     * Settings applied afterwards override the template.
+     *
+     * @param template The prompt template
+     * @return This instance for method chaining
+     */
+    public McChatSetup template(PromptTemplate template) {
+        builder.withTemplate(template);
+        return this;
+    }
+
+    /**
+     * Sets the answers of earlier steps, carried along when the prompt follows a player to another server.
+     *
+     * @param answers The earlier answers
+     * @return This instance for method chaining
+     */
+    public McChatSetup carryAnswers(List<String> answers) {
+        builder.withStepAnswers(answers);
+        return this;
+    }
+
+    /**
+     * Sets an action that receives the outcome whenever the prompt ends.
+     *
+     * @param onEnd The action to perform
+     * @return This instance for method chaining
+     */
+    public McChatSetup onEnd(Consumer<SessionOutcome> onEnd) {
+        builder.onEnd(onEnd);
+        return this;
+    }
+
     /**
      * Sets the input type to CHAT (default).
      * Players will type their input in chat.
@@ -204,6 +549,51 @@ public final class McChatSetup {
         return this;
     }
 
+    /**
+     * Sets the input type to ANVIL.
+     * Players will rename an item in an anvil and click the result to submit.
+     *
+     * @return This instance for method chaining
+     */
+    public McChatSetup useAnvilInput() {
+        builder.withInputType(InputType.ANVIL);
+        return this;
+    }
+
+    /**
+     * Sets the input type to BOOK.
+     * The held item of each player is replaced by a book and quill until the prompt ends;
+     * pressing Done or Sign submits the pages.
+     *
+     * @return This instance for method chaining
+     */
+    public McChatSetup useBookInput() {
+        builder.withInputType(InputType.BOOK);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of characters read from a book input.
+     *
+     * @param bookLimit The maximum number of characters
+     * @return This instance for method chaining
+     */
+    public McChatSetup setBookLimit(int bookLimit) {
+        builder.withBookLimit(bookLimit);
+        return this;
+    }
+
+    /**
+     * Sets the text prefilled in the anvil rename field.
+     *
+     * @param anvilText The prefilled text
+     * @return This instance for method chaining
+     */
+    public McChatSetup setAnvilText(String anvilText) {
+        builder.withAnvilText(anvilText);
+        return this;
+    }
+
     /**
      * Sets the input type explicitly.
      *
@@ -249,28 +639,160 @@ public final class McChatSetup {
         return useSignInput().startSession(player);
     }
 
+    /**
+     * Starts a quick anvil input session with a player.
+     *
+     * @param player The player to start the session with
+     * @return This instance for method chaining
+     */
+    public McChatSetup startAnvilSession(Player player) {
+        return useAnvilInput().startSession(player);
+    }
+
+    /**
+     * Starts a quick book input session with a player.
+     *
+     * @param player The player to start the session with
+     * @return This instance for method chaining
+     */
+    public McChatSetup startBookSession(Player player) {
+        return useBookInput().startSession(player);
+    }
+
     /**
      * Builds and starts the chat input process.
+     *
+     * @return The ID of the started session, or null if no player could join it
      */
-    public void build() {
+    public @Nullable UUID build() {
         ChatSession session = builder.build();
-        sessionManager.startSession(session);
+        return sessionManager.startSession(session);
     }
 
     /**
-     * Gets the number of currently active sessions.
+     * Builds the prompt and starts it when the player next joins, or right away if they are online.
+     * Players added to this prompt are ignored. The prompt is kept in memory only.
+     *
+     * @param playerId The UUID of the player
+     * @param expiry How long the prompt waits for the player
+     */
+    public void deferFor(@NotNull UUID playerId, @NotNull Duration expiry) {
+        sessionManager.deferSession(playerId, builder.build(), expiry);
+    }
+
+    /**
+     * Defers a persisted prompt identified by a key, rebuilt on join by the restorer set with
+     * {@link #restoreDeferred(BiFunction)}. Survives restarts.
+     *
+     * @param playerId The UUID of the player
+     * @param key The key passed to the restorer, for example a trade ID
+     * @param expiry How long the prompt waits for the player
+     */
+    public void deferFor(@NotNull UUID playerId, @NotNull String key, @NotNull Duration expiry) {
+        sessionManager.deferSession(plugin, playerId, key, expiry);
+    }
+
+    /**
+     * Sets how persisted deferred prompts, including those stored by earlier runs, are rebuilt when their
+     * player joins. Each plugin only rebuilds the prompts it deferred itself. Call once in {@code onEnable}.
+     *
+     * @param restorer Builds the prompt for a player UUID and key, or returns null to drop it
+     */
+    public void restoreDeferred(@NotNull BiFunction<UUID, String, McChatSetup> restorer) {
+        sessionManager.setDeferredRestorer(plugin, (playerId, key) -> {
+            McChatSetup setup = restorer.apply(playerId, key);
+            return setup != null ? setup.builder.build() : null;
+        });
+    }
+
+    /**
+     * Gets the live tallies of a collect-all session.
+     *
+     * @param sessionId The session ID returned by {@link #build()}
+     * @return The number of players per answer, empty if the session is not an active collect-all session
+     */
+    public @NotNull Map<String, Long> getTallies(@NotNull UUID sessionId) {
+        return sessionManager.getPollTallies(sessionId);
+    }
+
+    /**
+     * Gives an active prompt more time, up to its maximum lifetime.
+     *
+     * @param sessionId The session ID returned by {@link #build()}
+     * @param extra The time to add
+     * @return true if the session is active
+     * @throws IllegalArgumentException if the extra time is negative
+     */
+    public boolean extend(@NotNull UUID sessionId, @NotNull Duration extra) {
+        return sessionManager.extendSession(sessionId, extra);
+    }
+
+    /**
+     * Clears the cached prompt renders.
+     * Call after reloading messages or registering new translations.
+     */
+    public void invalidateMessages() {
+        sessionManager.invalidateMessages();
+    }
+
+    /**
+     * Lets template prompts follow players that switch servers mid-prompt.
+     * Every server of the network must enable this with the same templates.
+     *
+     * @param transport The transport connecting the servers, for example a {@link PluginMessageTransport}
+     * @param templates Looks up templates by ID, usually {@code registry::get}
+     */
+    public void enableCrossServer(@NotNull SessionTransport transport, @NotNull Function<String, PromptTemplate> templates) {
+        sessionManager.enableHandoff(transport, templates);
+    }
+
+    /**
+     * Warms up the prompt code paths in the background, so the first prompt after a restart is as fast
+     * as later ones. Call once in {@code onEnable}; repeated calls, also from other plugins, do nothing.
+     *
+     * @return This instance for method chaining
+     */
+    @Contract(" -> this")
+    public McChatSetup warmUp() {
+        SessionEngine.obtain(plugin).warmUp();
+        return this;
+    }
+
+    /**
+     * Registers the {@code /chatsetup} admin command, which lists live sessions and the slowest recent
+     * callbacks, and starts timing one in every {@code sampleEvery} session callbacks.
+     * Requires the {@code mcchatsetup.admin} permission.
+     *
+     * @param sampleEvery Times one in this many callbacks
+     */
+    public void enableProfiling(int sampleEvery) {
+        sessionManager.enableProfiling(sampleEvery);
+    }
+
+    /**
+     * Gets the number of currently active sessions owned by this plugin.
      *
      * @return The number of active sessions
      */
     public int getActiveSessionCount() {
-        return sessionManager.getActiveSessionCount();
+        return sessionManager.getActiveSessionCount(plugin);
     }
 
     /**
-     * Ends all active sessions managed by this instance.
+     * Checks if a player is currently answering a prompt of any plugin.
+     *
+     * @param player The player to check
+     * @return true if the player is in an active session
+     */
+    public boolean isInSession(Player player) {
+        return sessionManager.isInSession(player);
+    }
+
+    /**
+     * Ends all active sessions owned by this plugin.
      */
     public void endAllSessions() {
-        sessionManager.endAllSessions();
+        sessionManager.endAllSessions(plugin);
     }
 
     /**
@@ -312,4 +834,24 @@ public final class McChatSetup {
     public static McChatSetup forSign(JavaPlugin plugin) {
         return new McChatSetup(plugin).useSignInput();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a quick anvil input setup.
+     *
+     * @param plugin The plugin instance
+     * @return A new McChatSetup instance configured for anvil input
+     */
+    public static McChatSetup forAnvil(JavaPlugin plugin) {
+        return new McChatSetup(plugin).useAnvilInput();
+    }
+
+    /**
+     * Creates a quick book input setup.
+     *
+     * @param plugin The plugin instance
+     * @return A new McChatSetup instance configured for book input
+     */
+    public static McChatSetup forBook(JavaPlugin plugin) {
+        return new McChatSetup(plugin).useBookInput();
+    }
+}
@@ -1,15 +1,35 @@
 package com.mongenscave.mcchatsetup.builder;
 
+import com.mongenscave.mcchatsetup.identifiers.ChatIsolation;
+import com.mongenscave.mcchatsetup.identifiers.ConflictPolicy;
+import com.mongenscave.mcchatsetup.identifiers.CountdownDisplay;
+import com.mongenscave.mcchatsetup.identifiers.FloodAction;
 import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.keyword.ControlKeywords;
 import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.model.Choice;
+import com.mongenscave.mcchatsetup.model.InputRateLimit;
+import com.mongenscave.mcchatsetup.normalization.InputNormalization;
+import com.mongenscave.mcchatsetup.model.PollResult;
+import com.mongenscave.mcchatsetup.suggestion.SuggestionProvider;
+import com.mongenscave.mcchatsetup.template.PromptTemplate;
+import com.mongenscave.mcchatsetup.validation.ValidationRules;
 import lombok.Getter;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -24,6 +44,7 @@ public final class ChatSessionBuilder {
     private ChatSessionBuilder(JavaPlugin plugin) {
         this.plugin = plugin;
         this.session = new ChatSession();
+        this.session.setOwner(plugin);
     }
 
     /**
@@ -68,6 +89,32 @@ public final class ChatSessionBuilder {
         session.setMessage(message);
     }
 
+    /**
+     * Sets the message shown to players using a locale.
+     * A language-only locale applies to every country of that language; other players see the default message.
+     *
+     * @param locale The locale
+     * @param message The MiniMessage message for the locale
+     */
+    public void withLocalizedMessage(Locale locale, String message) {
+        Map<Locale, String> messages = session.getLocalizedMessages();
+        if (messages == null) {
+            messages = new HashMap<>();
+            session.setLocalizedMessages(messages);
+        }
+        messages.put(locale, message);
+    }
+
+    /**
+     * Sets a translation key resolved through Adventure's global translator instead of a message.
+     * The time limit and cancel keyword are passed as arguments {0} and {1}.
+     *
+     * @param translationKey The translation key
+     */
+    public void withTranslationKey(String translationKey) {
+        session.setTranslationKey(translationKey);
+    }
+
     /**
      * Sets the time limit for the input in seconds.
      *
@@ -86,6 +133,32 @@ public final class ChatSessionBuilder {
         session.setTimeLimit(duration);
     }
 
+    /**
+     * Makes the session time out after a period without input instead of a fixed time after start.
+     * Also sets the time limit to the idle timeout; set a time limit afterwards for a longer first window.
+     *
+     * @param idleTimeout The time allowed between inputs
+     * @throws IllegalArgumentException if the idle timeout is not positive
+     */
+    public void withIdleTimeout(Duration idleTimeout) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) throw new IllegalArgumentException("Idle timeout must be positive");
+
+        session.setIdleTimeout(idleTimeout);
+        session.setTimeLimit(idleTimeout);
+    }
+
+    /**
+     * Sets the longest the session can stay active, regardless of input and extensions.
+     *
+     * @param maxLifetime The maximum lifetime
+     * @throws IllegalArgumentException if the maximum lifetime is not positive
+     */
+    public void withMaxLifetime(Duration maxLifetime) {
+        if (maxLifetime.isNegative() || maxLifetime.isZero()) throw new IllegalArgumentException("Maximum lifetime must be positive");
+
+        session.setMaxLifetime(maxLifetime);
+    }
+
     /**
      * Sets the callback to execute on successful input.
      *
@@ -122,6 +195,25 @@ public final class ChatSessionBuilder {
         session.setOnInput(onInput);
     }
 
+    /**
+     * Sets the callback receiving both the normalized input and the input as the player sent it.
+     *
+     * @param onRawInput The callback receiving the normalized and the raw input
+     */
+    public void onRawInput(BiConsumer<String, String> onRawInput) {
+        session.setOnRawInput(onRawInput);
+    }
+
+    /**
+     * Sets how input is normalized before control keywords, the validator and the callbacks see it.
+     * Runs once per input.
+     *
+     * @param normalization The normalization steps
+     */
+    public void withNormalization(InputNormalization normalization) {
+        session.setNormalizer(normalization.compile());
+    }
+
     /**
      * Sets the validator to check if input is valid.
      *
@@ -152,7 +244,7 @@ public final class ChatSessionBuilder {
 
     /**
      * Sets the input type for the session.
-     * Determines how the player will provide input (CHAT, ANVIL, or SIGN).
+     * Determines how the player will provide input (CHAT, SIGN, ANVIL or BOOK).
      *
      * @param inputType The input type to use
      */
@@ -160,6 +252,228 @@ public final class ChatSessionBuilder {
         session.setInputType(inputType);
     }
 
+    /**
+     * Sets the text prefilled in the anvil rename field for ANVIL input, also used as the name of the BOOK input book.
+     *
+     * @param anvilText The prefilled text
+     */
+    public void withAnvilText(String anvilText) {
+        session.setAnvilText(anvilText);
+    }
+
+    /**
+     * Sets the maximum number of characters read from the pages of a BOOK input.
+     *
+     * @param bookLimit The maximum number of characters
+     */
+    public void withBookLimit(int bookLimit) {
+        session.setBookLimit(bookLimit);
+    }
+
+    /**
+     * Sets how the session handles players that are already in another prompt.
+     *
+     * @param conflictPolicy The conflict policy to use
+     */
+    public void withConflictPolicy(ConflictPolicy conflictPolicy) {
+        session.setConflictPolicy(conflictPolicy);
+    }
+
+    /**
+     * Sets where the live countdown of the session is shown.
+     *
+     * @param countdownDisplay The countdown display to use
+     */
+    public void withCountdown(CountdownDisplay countdownDisplay) {
+        session.setCountdownDisplay(countdownDisplay);
+    }
+
+    /**
+     * Sets the MiniMessage format of the live countdown.
+     * Supports the placeholder:
+     * {time} - remaining time in seconds
+     *
+     * @param countdownFormat The countdown format
+     */
+    public void withCountdownFormat(String countdownFormat) {
+        session.setCountdownFormat(countdownFormat);
+    }
+
+    /**
+     * Sets how other players' chat is handled while the players are answering.
+     *
+     * @param chatIsolation The isolation mode to use
+     * @param bufferSize The maximum number of messages held back per player
+     */
+    public void withChatIsolation(ChatIsolation chatIsolation, int bufferSize) {
+        session.setChatIsolation(chatIsolation);
+        session.setChatBufferSize(bufferSize);
+    }
+
+    /**
+     * Makes the session collect one answer from every player instead of ending on the first valid input.
+     *
+     * @param collectAll Whether to collect an answer from every player
+     */
+    public void collectAll(boolean collectAll) {
+        session.setCollectAll(collectAll);
+    }
+
+    /**
+     * Sets the number of answers that completes a collect-all session before everyone answered.
+     *
+     * @param quorum The quorum, or 0 to wait for every player
+     */
+    public void withQuorum(int quorum) {
+        session.setQuorum(quorum);
+    }
+
+    /**
+     * Sets the callback receiving the final result of a collect-all session.
+     *
+     * @param onResult The callback to execute
+     */
+    public void onResult(Consumer<PollResult> onResult) {
+        session.setOnResult(onResult);
+    }
+
+    /**
+     * Limits how fast each player can submit input, checked before control keywords and the validator run.
+     *
+     * @param burst The number of inputs allowed in quick succession
+     * @param perSecond The sustained number of inputs allowed per second
+     * @param action The action taken when a player exceeds the limit
+     */
+    public void withRateLimit(int burst, double perSecond, FloodAction action) {
+        session.setRateLimit(new InputRateLimit(burst, perSecond, action));
+    }
+
+    /**
+     * Sets declarative validation rules, compiled once into the session validator.
+     * Rejected input sends the reason of the failing rule to the player.
+     *
+     * @param rules The validation rules
+     */
+    public void withRules(ValidationRules rules) {
+        session.setValidator(rules.compile());
+    }
+
+    /**
+     * Sets the control keywords of the session, replacing the single cancel command.
+     *
+     * @param keywords The control keywords
+     */
+    public void withKeywords(ControlKeywords keywords) {
+        session.setControlKeywords(keywords.compile());
+    }
+
+    /**
+     * Sets the action to perform when a player types the back keyword.
+     *
+     * @param onBack The action to perform
+     */
+    public void onBack(Runnable onBack) {
+        session.setOnBack(onBack);
+    }
+
+    /**
+     * Sets the action to perform when a player types the skip keyword.
+     *
+     * @param onSkip The action to perform
+     */
+    public void onSkip(Runnable onSkip) {
+        session.setOnSkip(onSkip);
+    }
+
+    /**
+     * Sets the action to perform when a player types the help keyword.
+     *
+     * @param onHelp The action to perform
+     */
+    public void onHelp(Runnable onHelp) {
+        session.setOnHelp(onHelp);
+    }
+
+    /**
+     * Adds a source of chat completions shown to players while the session is active.
+     *
+     * @param provider The suggestion provider
+     */
+    public void withSuggestions(SuggestionProvider provider) {
+        List<SuggestionProvider> providers = session.getSuggestionProviders();
+        if (providers == null) {
+            providers = new ArrayList<>();
+            session.setSuggestionProviders(providers);
+        }
+        providers.add(provider);
+    }
+
+    /**
+     * Adds a clickable answer button below the prompt.
+     * A click submits the value directly, skipping control keywords and the validator.
+     *
+     * @param value The input submitted when the button is clicked
+     * @param label The MiniMessage label of the button
+     */
+    public void withChoice(String value, String label) {
+        List<Choice> choices = session.getChoices();
+        if (choices == null) {
+            choices = new ArrayList<>();
+            session.setChoices(choices);
+        }
+        choices.add(new Choice(value, label));
+    }
+
+    /**
+     * Adds a clickable answer button for each value, labelled with the value in brackets.
+     *
+     * @param values The input values
+     */
+    public void withChoices(Collection<String> values) {
+        for (String value : values) {
+            withChoice(value, "<aqua>[" + MiniMessage.miniMessage().escapeTags(value) + "]");
+        }
+    }
+
+    /**
+     * Sets the answers of earlier steps of a multi-step flow, carried along when the prompt moves to another server.
+     *
+     * @param stepAnswers The earlier answers
+     */
+    public void withStepAnswers(List<String> stepAnswers) {
+        session.setStepAnswers(List.copyOf(stepAnswers));
+    }
+
+    /**
+     * Sets an action that receives the outcome whenever the session ends, before the success or failure callback.
+     *
+     * @param onEnd The action to perform
+     */
+    public void onEnd(Consumer<SessionOutcome> onEnd) {
+        session.setOnEnd(onEnd);
+    }
+
+    /**
+     * Applies a prompt template: messages, time limit, cancel command, input type, book limit, keywords, validator and normalizer.
+     * The template is immutable, so a later reload does not affect sessions built from it.
+     *
+     * @param template The prompt template
+     */
+    public void withTemplate(PromptTemplate template) {
+        session.setTemplateId(template.getId());
+        session.setMessage(template.getMessage());
+        session.setLocalizedMessages(template.getLocalizedMessages().isEmpty() ? null : new HashMap<>(template.getLocalizedMessages()));
+        session.setTranslationKey(template.getTranslationKey());
+        session.setTimeLimit(template.getTimeLimit());
+        session.setCancelCommand(template.getCancelCommand());
+        session.setInputType(template.getInputType());
+        session.setAnvilText(template.getAnvilText());
+        session.setBookLimit(template.getBookLimit());
+        if (template.getKeywords() != null) session.setControlKeywords(template.getKeywords());
+        if (template.getValidator() != null) session.setValidator(template.getValidator());
+        if (template.getNormalizer() != null) session.setNormalizer(template.getNormalizer());
+    }
+
     /**
      * Builds the ChatSession instance.
      *
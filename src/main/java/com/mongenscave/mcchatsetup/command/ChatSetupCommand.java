@@ -0,0 +1,128 @@
+package com.mongenscave.mcchatsetup.command;
+
+import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager.ActiveSession;
+import com.mongenscave.mcchatsetup.model.CallbackSample;
+import com.mongenscave.mcchatsetup.service.CallbackProfiler;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin command listing live sessions and the slowest recent session callbacks.
+ * {@code /chatsetup sessions} groups active sessions by owning plugin and input type with their age and
+ * remaining time; {@code /chatsetup slow} lists the slowest sampled callbacks. Reports are collected off
+ * the server threads from a copy of the session map and the sample ring.
+ */
+public final class ChatSetupCommand extends Command {
+    private static final String PERMISSION = "mcchatsetup.admin";
+    private static final int SLOWEST_LIMIT = 10;
+    private static final List<String> SUBCOMMANDS = List.of("sessions", "slow");
+
+    private final ChatSessionManager sessionManager;
+    private final CallbackProfiler profiler;
+
+    public ChatSetupCommand(@NotNull ChatSessionManager sessionManager, @NotNull CallbackProfiler profiler) {
+        super("chatsetup", "Shows live chat setup sessions and slow callbacks", "/chatsetup [sessions|slow]", List.of());
+        this.sessionManager = sessionManager;
+        this.profiler = profiler;
+        setPermission(PERMISSION);
+    }
+
+    @Override
+    public boolean execute(@NotNull CommandSender sender, @NotNull String label, @NotNull String[] args) {
+        if (!testPermission(sender)) return true;
+
+        String subcommand = args.length > 0 ? args[0].toLowerCase(Locale.ROOT) : "";
+        if (!subcommand.isEmpty() && !SUBCOMMANDS.contains(subcommand)) {
+            sender.sendMessage(Component.text("Usage: " + getUsage(), NamedTextColor.RED));
+            return true;
+        }
+
+        sessionManager.getScheduler().runAsync(sessionManager.getPlugin(), () -> {
+            List<Component> lines = new ArrayList<>();
+            if (!subcommand.equals("slow")) reportSessions(lines);
+            if (!subcommand.equals("sessions")) reportCallbacks(lines);
+            lines.forEach(sender::sendMessage);
+        });
+        return true;
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String alias, @NotNull String[] args) {
+        if (args.length != 1 || !testPermissionSilent(sender)) return List.of();
+
+        String prefix = args[0].toLowerCase(Locale.ROOT);
+        return SUBCOMMANDS.stream().filter(subcommand -> subcommand.startsWith(prefix)).toList();
+    }
+
+    /**
+     * Lists the active sessions grouped by owning plugin and input type.
+     *
+     * @param lines The report to append to
+     */
+    private void reportSessions(@NotNull List<Component> lines) {
+        long now = System.nanoTime();
+        Map<String, Map<InputType, List<ActiveSession>>> groups = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (ActiveSession activeSession : sessionManager.getActiveSessions()) {
+            String owner = activeSession.getSession().getOwner() != null ? activeSession.getSession().getOwner().getName() : "?";
+            groups.computeIfAbsent(owner, key -> new EnumMap<>(InputType.class))
+                    .computeIfAbsent(activeSession.getSession().getInputType(), key -> new ArrayList<>())
+                    .add(activeSession);
+        }
+
+        int total = groups.values().stream().flatMap(types -> types.values().stream()).mapToInt(List::size).sum();
+        lines.add(Component.text("Active sessions: " + total, NamedTextColor.GOLD));
+
+        groups.forEach((owner, types) -> types.forEach((type, sessions) -> {
+            lines.add(Component.text(" " + owner + " " + type + " (" + sessions.size() + ")", NamedTextColor.YELLOW));
+            for (ActiveSession activeSession : sessions) {
+                lines.add(Component.text("  " + activeSession.getSessionId().toString().substring(0, 8)
+                        + " players " + activeSession.getSession().getPlayers().size()
+                        + " age " + format(now - activeSession.getStartedAt())
+                        + " left " + format(Math.max(0L, activeSession.getDeadline() - now)), NamedTextColor.GRAY));
+            }
+        }));
+    }
+
+    /**
+     * Lists the slowest recently sampled callbacks.
+     *
+     * @param lines The report to append to
+     */
+    private void reportCallbacks(@NotNull List<Component> lines) {
+        List<CallbackSample> slowest = profiler.slowest(SLOWEST_LIMIT);
+        lines.add(Component.text("Slowest callbacks (sampling 1 in " + profiler.getSampleEvery() + " of "
+                + profiler.getCallCount() + " calls):", NamedTextColor.GOLD));
+
+        if (slowest.isEmpty()) {
+            lines.add(Component.text(" none recorded", NamedTextColor.GRAY));
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (CallbackSample sample : slowest) {
+            NamedTextColor color = sample.durationNanos() >= TimeUnit.MILLISECONDS.toNanos(50) ? NamedTextColor.RED : NamedTextColor.GRAY;
+            lines.add(Component.text(String.format(Locale.ROOT, " %.2f ms %s %s, %s ago", sample.durationNanos() / 1_000_000.0,
+                    sample.owner(), sample.kind(), format(TimeUnit.MILLISECONDS.toNanos(now - sample.recordedAt()))), color));
+        }
+    }
+
+    private static @NotNull String format(long nanos) {
+        Duration duration = Duration.ofNanos(nanos);
+        if (duration.toMinutes() > 0) return duration.toMinutes() + "m" + duration.toSecondsPart() + "s";
+        return duration.toSeconds() + "." + duration.toMillisPart() / 100 + "s";
+    }
+}
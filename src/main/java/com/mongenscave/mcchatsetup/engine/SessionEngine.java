@@ -0,0 +1,165 @@
+package com.mongenscave.mcchatsetup.engine;
+
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.service.MessageFormatter;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Process-wide session engine shared by every plugin that uses McChatSetup.
+ * The first plugin to obtain the engine registers it with Bukkit's {@link ServicesManager};
+ * later plugins reuse the registered engine and only track ownership of their own sessions.
+ * <p>
+ * Copies of the library shaded into other plugins are loaded by different class loaders and cannot
+ * share the engine object itself. They are discovered by class name and, if their protocol version
+ * matches, share the per-player claim map, which only uses JDK types, so a player is never in two
+ * prompts at once regardless of which copy started them.
+ */
+public final class SessionEngine {
+    /**
+     * Version of the cross-copy contract ({@link #protocolVersion()} and {@link #claims()}).
+     * Only copies with the same protocol version share claims.
+     */
+    public static final int PROTOCOL_VERSION = 1;
+
+    private static SessionEngine instance;
+
+    @Getter private final ChatSessionManager sessionManager;
+    private final ConcurrentMap<UUID, Runnable> claims;
+    private final AtomicBoolean warmUpStarted = new AtomicBoolean();
+
+    private SessionEngine(@NotNull JavaPlugin host, @NotNull ConcurrentMap<UUID, Runnable> claims) {
+        this.claims = claims;
+        this.sessionManager = new ChatSessionManager(host, claims);
+        this.sessionManager.getSignPlacementService().recover(host);
+    }
+
+    /**
+     * Gets the shared engine, creating and registering it on first use.
+     *
+     * @param plugin The plugin requesting the engine
+     * @return The shared engine
+     */
+    public static synchronized @NotNull SessionEngine obtain(@NotNull JavaPlugin plugin) {
+        if (instance == null) instance = resolve(plugin);
+
+        instance.sessionManager.trackOwner(plugin);
+        return instance;
+    }
+
+    /**
+     * Loads and exercises the formatter, sign text extraction, keyword matching, normalization and
+     * validation code paths in an async task, so the first prompt after a restart is not slower than the
+     * rest. Runs once per engine; later calls do nothing.
+     */
+    public void warmUp() {
+        if (!warmUpStarted.compareAndSet(false, true)) return;
+
+        JavaPlugin host = sessionManager.getPlugin();
+        sessionManager.getScheduler().runAsync(host, () -> {
+            long started = System.nanoTime();
+            try {
+                new SessionWarmUp(new MessageFormatter()).run();
+                host.getLogger().fine("McChatSetup warm-up took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError exception) {
+                host.getLogger().log(Level.WARNING, "McChatSetup warm-up failed", exception);
+            }
+        });
+    }
+
+    /**
+     * Gets the protocol version of this engine.
+     * Called reflectively by other copies of the library.
+     *
+     * @return The protocol version
+     */
+    public int protocolVersion() {
+        return PROTOCOL_VERSION;
+    }
+
+    /**
+     * Gets the per-player claim map of this engine.
+     * Values are eviction callbacks that take the player out of their current prompt.
+     * Called reflectively by other copies of the library.
+     *
+     * @return The claim map
+     */
+    public @NotNull ConcurrentMap<UUID, Runnable> claims() {
+        return claims;
+    }
+
+    /**
+     * Finds a registered engine or creates and registers a new one.
+     *
+     * @param plugin The plugin requesting the engine
+     * @return The engine to use in this class loader
+     */
+    private static @NotNull SessionEngine resolve(@NotNull JavaPlugin plugin) {
+        ServicesManager services = Bukkit.getServicesManager();
+
+        SessionEngine registered = services.load(SessionEngine.class);
+        if (registered != null) return registered;
+
+        ConcurrentMap<UUID, Runnable> foreignClaims = findForeignClaims(plugin, services);
+        if (foreignClaims != null) return new SessionEngine(plugin, foreignClaims);
+
+        SessionEngine engine = new SessionEngine(plugin, new ConcurrentHashMap<>());
+        services.register(SessionEngine.class, engine, plugin, ServicePriority.Normal);
+        engine.sessionManager.addHostListener(host -> {
+            services.unregister(SessionEngine.class, engine);
+            services.register(SessionEngine.class, engine, host, ServicePriority.Normal);
+        });
+        return engine;
+    }
+
+    /**
+     * Looks for an engine registered by another copy of the library and borrows its claim map.
+     *
+     * @param plugin The plugin requesting the engine, used for logging
+     * @param services The services manager
+     * @return The foreign claim map, or null if none is registered or the protocol does not match
+     */
+    @SuppressWarnings("unchecked")
+    private static @Nullable ConcurrentMap<UUID, Runnable> findForeignClaims(@NotNull JavaPlugin plugin,
+                                                                             @NotNull ServicesManager services) {
+        for (Class<?> service : services.getKnownServices()) {
+            if (service == SessionEngine.class || !service.getSimpleName().equals(SessionEngine.class.getSimpleName())) continue;
+
+            RegisteredServiceProvider<?> registration = services.getRegistration(service);
+            if (registration == null) continue;
+
+            Object provider = registration.getProvider();
+            try {
+                Method versionMethod = provider.getClass().getMethod("protocolVersion");
+                int version = (int) versionMethod.invoke(provider);
+
+                if (version != PROTOCOL_VERSION) {
+                    plugin.getLogger().warning("McChatSetup engine of " + registration.getPlugin().getName()
+                            + " uses protocol " + version + ", expected " + PROTOCOL_VERSION
+                            + "; prompts will not be coordinated with it");
+                    return null;
+                }
+
+                return (ConcurrentMap<UUID, Runnable>) provider.getClass().getMethod("claims").invoke(provider);
+            } catch (ReflectiveOperationException | ClassCastException exception) {
+                plugin.getLogger().log(Level.FINE, "Ignoring incompatible session engine " + service.getName(), exception);
+            }
+        }
+
+        return null;
+    }
+}
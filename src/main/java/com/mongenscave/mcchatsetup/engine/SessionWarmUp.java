@@ -0,0 +1,88 @@
+package com.mongenscave.mcchatsetup.engine;
+
+import com.mongenscave.mcchatsetup.event.ChatSessionEndEvent;
+import com.mongenscave.mcchatsetup.event.ChatSessionInputEvent;
+import com.mongenscave.mcchatsetup.event.ChatSessionStartEvent;
+import com.mongenscave.mcchatsetup.handler.AnvilInputHandler;
+import com.mongenscave.mcchatsetup.handler.BookInputHandler;
+import com.mongenscave.mcchatsetup.handler.ChatEventHandler;
+import com.mongenscave.mcchatsetup.handler.SessionRouter;
+import com.mongenscave.mcchatsetup.handler.SignInputHandler;
+import com.mongenscave.mcchatsetup.keyword.KeywordMatcher;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.AuditRecord;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.model.PlayerRoute;
+import com.mongenscave.mcchatsetup.model.PollState;
+import com.mongenscave.mcchatsetup.normalization.InputNormalization;
+import com.mongenscave.mcchatsetup.service.MessageFormatter;
+import com.mongenscave.mcchatsetup.util.BkTree;
+import com.mongenscave.mcchatsetup.validation.CompiledValidator;
+import com.mongenscave.mcchatsetup.validation.ValidationRules;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Loads and exercises the prompt code paths with synthetic data, so the first real prompt after a
+ * restart does not pay for class loading, MiniMessage setup and interpreted code on the main thread.
+ * Only touches thread-safe, player-independent code. The only shared cache entry it creates is the
+ * matcher of the default cancel command, which prompts use anyway.
+ */
+final class SessionWarmUp {
+    private static final int ITERATIONS = 1_000;
+    private static final String TEMPLATE = "<gold>Warm-up</gold> <gray>Type an answer within <yellow><time></yellow>s "
+            + "or <click:suggest_command:'cancel'><hover:show_text:'<red>Cancel'><red><cancel></red></hover></click>.";
+    private static final List<Class<?>> CLASSES = List.of(
+            ChatEventHandler.class, SignInputHandler.class, AnvilInputHandler.class, BookInputHandler.class,
+            SessionRouter.class, ChatSessionStartEvent.class, ChatSessionInputEvent.class, ChatSessionEndEvent.class,
+            ChatSessionManager.ActiveSession.class, PlayerRoute.class, PollState.class, AuditRecord.class);
+
+    private final MessageFormatter messageFormatter;
+
+    SessionWarmUp(@NotNull MessageFormatter messageFormatter) {
+        this.messageFormatter = messageFormatter;
+    }
+
+    /**
+     * Runs the warm-up. Meant to run off the server threads.
+     *
+     * @return A value derived from every result, so the work cannot be optimized away
+     * @throws ClassNotFoundException if a session class cannot be loaded
+     */
+    int run() throws ClassNotFoundException {
+        for (Class<?> type : CLASSES) {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        }
+
+        ChatSession session = new ChatSession();
+        session.setNormalizer(InputNormalization.standard().compile());
+        session.setValidator(ValidationRules.create().length(1, 32).charset("abcdefghijklmnopqrstuvwxyz0123456789 ").compile());
+
+        KeywordMatcher keywords = KeywordMatcher.cancelOnly(session.getCancelCommand());
+        BkTree choices = new BkTree(List.of("red", "green", "blue", "yellow", "purple"));
+        List<Component> signLines = List.of(Component.text("warm"), Component.text("up", NamedTextColor.RED),
+                Component.empty(), Component.text(" "));
+
+        int checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            Component message = messageFormatter.formatMessage(TEMPLATE,
+                    messageFormatter.createCustomResolver("time", String.valueOf(i)),
+                    messageFormatter.createCustomResolver("cancel", session.getCancelCommand()));
+            checksum += PlainTextComponentSerializer.plainText().serialize(message).length();
+            checksum += LegacyComponentSerializer.legacySection().serialize(message).length();
+
+            String input = session.normalize("  Warm   up  " + i + " ");
+            checksum += SignInputHandler.extractText(signLines).length();
+            if (keywords.match(i % 2 == 0 ? input : "CANCEL", Locale.ROOT) != null) checksum++;
+            if (session.getValidator() instanceof CompiledValidator validator && validator.reject(input) == null) checksum++;
+            checksum += choices.closest(i % 2 == 0 ? "gren" : "purpel", 2, 3).size();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mongenscave.mcchatsetup.event;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import lombok.Getter;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Called after a chat session ended and its players were released, before its callbacks run.
+ * Only constructed when at least one listener is registered.
+ */
+@Getter
+public final class ChatSessionEndEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final UUID sessionId;
+    private final ChatSession session;
+    private final SessionOutcome outcome;
+
+    public ChatSessionEndEvent(@NotNull UUID sessionId, @NotNull ChatSession session,
+                               @NotNull SessionOutcome outcome, boolean async) {
+        super(async);
+        this.sessionId = sessionId;
+        this.session = session;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Checks whether any listener is registered for this event.
+     *
+     * @return true if the event has listeners
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
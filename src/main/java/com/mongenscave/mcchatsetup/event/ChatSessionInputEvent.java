@@ -0,0 +1,55 @@
+package com.mongenscave.mcchatsetup.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Called when a player submits input that passed validation, before the session receives it.
+ * The input is normalized by the session; the raw input is what the player sent.
+ * Cancelling the event discards the input and keeps the session waiting.
+ * Called asynchronously for chat input. Only constructed when at least one listener is registered.
+ */
+@Getter
+public final class ChatSessionInputEvent extends Event implements Cancellable {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final UUID sessionId;
+    private final Player player;
+    private final String input;
+    private final String rawInput;
+    @Setter private boolean cancelled;
+
+    public ChatSessionInputEvent(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input,
+                                 @NotNull String rawInput, boolean async) {
+        super(async);
+        this.sessionId = sessionId;
+        this.player = player;
+        this.input = input;
+        this.rawInput = rawInput;
+    }
+
+    /**
+     * Checks whether any listener is registered for this event.
+     *
+     * @return true if the event has listeners
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mongenscave.mcchatsetup.event;
+
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Called after a chat session started and its players were bound to it.
+ * Only constructed when at least one listener is registered.
+ */
+@Getter
+public final class ChatSessionStartEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final UUID sessionId;
+    private final ChatSession session;
+    private final Set<Player> players;
+
+    public ChatSessionStartEvent(@NotNull UUID sessionId, @NotNull ChatSession session,
+                                 @NotNull Set<Player> players, boolean async) {
+        super(async);
+        this.sessionId = sessionId;
+        this.session = session;
+        this.players = players;
+    }
+
+    /**
+     * Checks whether any listener is registered for this event.
+     *
+     * @return true if the event has listeners
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,221 @@
+package com.mongenscave.mcchatsetup.handler;
+
+import com.mongenscave.mcchatsetup.identifiers.AuditOutcome;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.PrepareAnvilEvent;
+import org.bukkit.inventory.AnvilInventory;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Handles anvil input for chat sessions.
+ * Players rename a prefilled item and click the result slot to submit the new name.
+ * Anvil views are created by the server for each player, but the prefilled items are built once
+ * per placeholder text and shared by every prompt, since inventories only store copies of them.
+ */
+public final class AnvilInputHandler implements InputHandler {
+    private static final int INPUT_SLOT = 0;
+    private static final int RESULT_SLOT = 2;
+    private static final int MAX_CACHED_ITEMS = 256;
+    private static final ConcurrentMap<String, ItemStack> INPUT_ITEMS = new ConcurrentHashMap<>();
+
+    private final JavaPlugin plugin;
+    private final ChatSessionManager sessionManager;
+    private final ChatSession session;
+    private final UUID sessionId;
+    private final Map<UUID, OpenAnvil> playerAnvils = new ConcurrentHashMap<>();
+
+    public AnvilInputHandler(@NotNull JavaPlugin plugin,
+                             @NotNull ChatSessionManager sessionManager,
+                             @NotNull ChatSession session,
+                             @NotNull UUID sessionId) {
+        this.plugin = plugin;
+        this.sessionManager = sessionManager;
+        this.session = session;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Opens an anvil for all players in the session.
+     */
+    public void openAnvilForPlayers() {
+        for (Player player : session.getPlayers()) {
+            sessionManager.getScheduler().executeForPlayer(plugin, player, () -> openAnvil(player));
+        }
+    }
+
+    /**
+     * Opens an anvil with the prefilled input item for a specific player.
+     *
+     * @param player The player to open the anvil for
+     */
+    @SuppressWarnings("deprecation")
+    private void openAnvil(@NotNull Player player) {
+        if (!sessionManager.isSessionActive(sessionId) || !player.isOnline()) return;
+
+        InventoryView view = player.openAnvil(null, true);
+        if (view == null) return;
+
+        Inventory inventory = view.getTopInventory();
+        inventory.setItem(INPUT_SLOT, inputItem(session.getAnvilText()));
+        playerAnvils.put(player.getUniqueId(), new OpenAnvil(player, inventory));
+    }
+
+    /**
+     * Keeps the result slot filled so the player can click it to submit.
+     *
+     * @param event The prepare anvil event
+     */
+    @SuppressWarnings("deprecation")
+    public void handlePrepare(@NotNull PrepareAnvilEvent event) {
+        OpenAnvil anvil = playerAnvils.get(event.getView().getPlayer().getUniqueId());
+        if (anvil == null || anvil.inventory() != event.getInventory()) return;
+
+        event.setResult(inputItem(session.getAnvilText()));
+        event.getInventory().setRepairCost(0);
+    }
+
+    /**
+     * Handles clicks in a session anvil. Every click is cancelled; a click on the result slot submits the name.
+     *
+     * @param event The inventory click event
+     */
+    @SuppressWarnings("deprecation")
+    public void handleClick(@NotNull InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+
+        OpenAnvil anvil = playerAnvils.get(player.getUniqueId());
+        if (anvil == null || anvil.inventory() != event.getView().getTopInventory()) return;
+
+        event.setCancelled(true);
+        if (event.getRawSlot() != RESULT_SLOT || !sessionManager.isSessionActive(sessionId)) return;
+
+        String renameText = ((AnvilInventory) anvil.inventory()).getRenameText();
+        String rawInput = renameText != null ? renameText.trim() : "";
+        String input = session.normalize(rawInput);
+        if (input.isEmpty()) return;
+
+        if (sessionManager.handleControlInput(sessionId, player, input)) return;
+        if (!sessionManager.validateInput(sessionId, player, input, rawInput)) return;
+
+        sessionManager.submitInput(sessionId, player, input, rawInput);
+    }
+
+    /**
+     * Prevents items from being dragged into a session anvil.
+     *
+     * @param event The inventory drag event
+     */
+    public void handleDrag(@NotNull InventoryDragEvent event) {
+        OpenAnvil anvil = playerAnvils.get(event.getWhoClicked().getUniqueId());
+        if (anvil != null && anvil.inventory() == event.getView().getTopInventory()) event.setCancelled(true);
+    }
+
+    /**
+     * Treats a player closing their session anvil as cancelling the prompt.
+     * The prefilled item is removed first so it is not handed to the player.
+     *
+     * @param event The inventory close event
+     */
+    public void handleClose(@NotNull InventoryCloseEvent event) {
+        if (!(event.getPlayer() instanceof Player player)) return;
+
+        OpenAnvil anvil = playerAnvils.get(player.getUniqueId());
+        if (anvil == null || anvil.inventory() != event.getInventory()) return;
+        if (!playerAnvils.remove(player.getUniqueId(), anvil)) return;
+
+        anvil.inventory().clear();
+        sessionManager.recordInput(sessionId, player, AuditOutcome.CANCELLED, "");
+        sessionManager.cancelInput(sessionId, player);
+    }
+
+    /**
+     * Closes the anvil of a player that left the session.
+     *
+     * @param player The player that left the session
+     */
+    @Override
+    public void release(@NotNull Player player) {
+        OpenAnvil anvil = playerAnvils.remove(player.getUniqueId());
+        if (anvil != null) closeAnvil(anvil);
+    }
+
+    /**
+     * Closes every anvil still open for this session.
+     */
+    @Override
+    public void cleanup() {
+        for (OpenAnvil anvil : playerAnvils.values()) {
+            closeAnvil(anvil);
+        }
+        playerAnvils.clear();
+    }
+
+    /**
+     * Clears and closes an anvil on the thread owning its player.
+     *
+     * @param anvil The anvil to close
+     */
+    private void closeAnvil(@NotNull OpenAnvil anvil) {
+        Player player = anvil.player();
+        sessionManager.getScheduler().executeForPlayer(plugin, player, () -> {
+            anvil.inventory().clear();
+            if (player.getOpenInventory().getTopInventory() == anvil.inventory()) player.closeInventory();
+        });
+    }
+
+    /**
+     * Gets the shared prefilled item for a placeholder text, building it on first use.
+     *
+     * @param text The placeholder text shown in the rename field
+     * @return The shared item
+     */
+    private static @NotNull ItemStack inputItem(@NotNull String text) {
+        ItemStack cached = INPUT_ITEMS.get(text);
+        if (cached != null) return cached;
+
+        if (INPUT_ITEMS.size() >= MAX_CACHED_ITEMS) INPUT_ITEMS.clear();
+        return INPUT_ITEMS.computeIfAbsent(text, key -> {
+            ItemStack item = new ItemStack(Material.PAPER);
+            ItemMeta meta = item.getItemMeta();
+            meta.displayName(Component.text(key));
+            item.setItemMeta(meta);
+            return item;
+        });
+    }
+
+    /**
+     * Gets the session ID for this handler.
+     *
+     * @return The session ID
+     */
+    @Override
+    public @NotNull UUID getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Anvil opened for a session participant.
+     *
+     * @param player The participant
+     * @param inventory The top inventory of the anvil view
+     */
+    private record OpenAnvil(@NotNull Player player, @NotNull Inventory inventory) {
+    }
+}
@@ -0,0 +1,308 @@
+package com.mongenscave.mcchatsetup.handler;
+
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerEditBookEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.BookMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handles book and quill input for chat sessions.
+ * The held item of each player is swapped for a writable book; pressing Done or Sign in the book submits
+ * its pages, joined into one bounded buffer. The original item is stored inside the book itself, so it
+ * is restored when the session ends and can still be recovered from a book left behind by a crash.
+ */
+public final class BookInputHandler implements InputHandler {
+    private static final NamespacedKey HELD_ITEM = NamespacedKey.fromString("mcchatsetup:held-item");
+    private static final byte[] EMPTY = new byte[0];
+
+    private final JavaPlugin plugin;
+    private final ChatSessionManager sessionManager;
+    private final ChatSession session;
+    private final UUID sessionId;
+    private final Map<UUID, HeldBook> playerBooks = new ConcurrentHashMap<>();
+
+    public BookInputHandler(@NotNull JavaPlugin plugin,
+                            @NotNull ChatSessionManager sessionManager,
+                            @NotNull ChatSession session,
+                            @NotNull UUID sessionId) {
+        this.plugin = plugin;
+        this.sessionManager = sessionManager;
+        this.session = session;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Hands a writable book to all players in the session.
+     */
+    public void giveBookToPlayers() {
+        for (Player player : session.getPlayers()) {
+            sessionManager.getScheduler().executeForPlayer(plugin, player, () -> giveBook(player));
+        }
+    }
+
+    /**
+     * Swaps the held item of a player for a writable book carrying the original item.
+     *
+     * @param player The player to give the book to
+     */
+    private void giveBook(@NotNull Player player) {
+        if (!sessionManager.isSessionActive(sessionId) || !player.isOnline()) return;
+
+        PlayerInventory inventory = player.getInventory();
+        int slot = inventory.getHeldItemSlot();
+        ItemStack original = inventory.getItem(slot);
+
+        ItemStack book = new ItemStack(Material.WRITABLE_BOOK);
+        ItemMeta meta = book.getItemMeta();
+        meta.displayName(Component.text(session.getAnvilText()));
+        meta.getPersistentDataContainer().set(HELD_ITEM, PersistentDataType.BYTE_ARRAY,
+                original == null || original.getType().isAir() ? EMPTY : original.serializeAsBytes());
+        book.setItemMeta(meta);
+
+        inventory.setItem(slot, book);
+        playerBooks.put(player.getUniqueId(), new HeldBook(player, slot));
+    }
+
+    /**
+     * Submits the pages of a session book when the player presses Done or Sign.
+     * Accepted input cancels the edit and restores the original item; rejected input keeps the text
+     * in the book so the player can correct it.
+     *
+     * @param event The book edit event
+     */
+    public void handleEdit(@NotNull PlayerEditBookEvent event) {
+        Player player = event.getPlayer();
+        HeldBook held = playerBooks.get(player.getUniqueId());
+        if (held == null || !sessionManager.isSessionActive(sessionId)) return;
+        if (!isSessionBook(player.getInventory().getItem(held.slot()))) return;
+
+        String rawInput = readPages(event.getNewBookMeta(), session.getBookLimit());
+        String input = session.normalize(rawInput);
+        event.setSigning(false);
+
+        if (sessionManager.handleControlInput(sessionId, player, input)) {
+            event.setCancelled(true);
+            return;
+        }
+
+        if (!sessionManager.validateInput(sessionId, player, input, rawInput)) return;
+
+        event.setCancelled(true);
+        sessionManager.submitInput(sessionId, player, input, rawInput);
+    }
+
+    /**
+     * Keeps session books from being moved out of their slot.
+     *
+     * @param event The inventory click event
+     */
+    public void handleClick(@NotNull InventoryClickEvent event) {
+        if (!playerBooks.containsKey(event.getWhoClicked().getUniqueId())) return;
+
+        ItemStack hotbar = event.getHotbarButton() >= 0 ? event.getWhoClicked().getInventory().getItem(event.getHotbarButton()) : null;
+        if (isSessionBook(event.getCurrentItem()) || isSessionBook(event.getCursor()) || isSessionBook(hotbar)) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Keeps session books from being dropped.
+     *
+     * @param event The drop event
+     */
+    public void handleDrop(@NotNull PlayerDropItemEvent event) {
+        if (playerBooks.containsKey(event.getPlayer().getUniqueId()) && isSessionBook(event.getItemDrop().getItemStack())) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Keeps session books from being swapped to the off hand.
+     *
+     * @param event The swap event
+     */
+    public void handleSwap(@NotNull PlayerSwapHandItemsEvent event) {
+        if (!playerBooks.containsKey(event.getPlayer().getUniqueId())) return;
+        if (isSessionBook(event.getMainHandItem()) || isSessionBook(event.getOffHandItem())) event.setCancelled(true);
+    }
+
+    /**
+     * Keeps session books from being placed on lecterns or used on other blocks.
+     * Opening the book by using it in the air still works.
+     *
+     * @param event The interact event
+     */
+    public void handleInteract(@NotNull PlayerInteractEvent event) {
+        if (event.getClickedBlock() == null || !playerBooks.containsKey(event.getPlayer().getUniqueId())) return;
+        if (isSessionBook(event.getItem())) event.setUseInteractedBlock(Event.Result.DENY);
+    }
+
+    /**
+     * Keeps session books from being put into item frames or onto armor stands.
+     *
+     * @param event The entity interact event
+     */
+    public void handleInteractEntity(@NotNull PlayerInteractEntityEvent event) {
+        Player player = event.getPlayer();
+        if (!playerBooks.containsKey(player.getUniqueId())) return;
+        if (isSessionBook(player.getInventory().getItem(event.getHand()))) event.setCancelled(true);
+    }
+
+    /**
+     * Drops the original item instead of the session book when a player dies, and cancels the prompt.
+     *
+     * @param event The death event
+     */
+    public void handleDeath(@NotNull PlayerDeathEvent event) {
+        Player player = event.getPlayer();
+        if (playerBooks.remove(player.getUniqueId()) == null) return;
+
+        List<ItemStack> drops = event.getDrops();
+        for (int i = drops.size() - 1; i >= 0; i--) {
+            ItemStack drop = drops.get(i);
+            if (!isSessionBook(drop)) continue;
+
+            ItemStack original = storedItem(drop);
+            if (original != null) drops.set(i, original);
+            else drops.remove(i);
+        }
+
+        if (event.getKeepInventory()) restoreInventory(player);
+        sessionManager.cancelInput(sessionId, player);
+    }
+
+    /**
+     * Gives back the original item of a player that left the session.
+     *
+     * @param player The player that left the session
+     */
+    @Override
+    public void release(@NotNull Player player) {
+        HeldBook held = playerBooks.remove(player.getUniqueId());
+        if (held != null) restore(held);
+    }
+
+    /**
+     * Gives back the original items of every player still holding a session book.
+     */
+    @Override
+    public void cleanup() {
+        for (HeldBook held : playerBooks.values()) {
+            restore(held);
+        }
+        playerBooks.clear();
+    }
+
+    /**
+     * Replaces session books left in an inventory, for example by a crash, with the items they hold.
+     * Only writable books are inspected, so inventories without any cost a type check per slot.
+     *
+     * @param player The player whose inventory to repair
+     */
+    public static void restoreInventory(@NotNull Player player) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getContents();
+
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (!isSessionBook(item)) continue;
+
+            inventory.setItem(slot, storedItem(item));
+        }
+    }
+
+    /**
+     * Restores the original item of a player on the thread owning the player.
+     *
+     * @param held The book to replace
+     */
+    private void restore(@NotNull HeldBook held) {
+        Player player = held.player();
+        sessionManager.getScheduler().executeForPlayer(plugin, player, () -> {
+            PlayerInventory inventory = player.getInventory();
+            ItemStack item = inventory.getItem(held.slot());
+            if (isSessionBook(item)) {
+                inventory.setItem(held.slot(), storedItem(item));
+            } else {
+                restoreInventory(player);
+            }
+        });
+    }
+
+    /**
+     * Joins the pages of a book into one buffer, separated by line breaks and truncated to a limit.
+     *
+     * @param meta The book contents
+     * @param limit The maximum number of characters
+     * @return The text of the book
+     */
+    private static @NotNull String readPages(@NotNull BookMeta meta, int limit) {
+        PlainTextComponentSerializer serializer = PlainTextComponentSerializer.plainText();
+        StringBuilder buffer = new StringBuilder(Math.min(limit, 1024));
+
+        for (Component page : meta.pages()) {
+            if (!buffer.isEmpty()) buffer.append('\n');
+            serializer.serialize(buffer, page);
+
+            if (buffer.length() >= limit) {
+                buffer.setLength(limit);
+                break;
+            }
+        }
+
+        return buffer.toString().strip();
+    }
+
+    private static boolean isSessionBook(@Nullable ItemStack item) {
+        if (item == null || item.getType() != Material.WRITABLE_BOOK || !item.hasItemMeta()) return false;
+        return item.getItemMeta().getPersistentDataContainer().has(HELD_ITEM, PersistentDataType.BYTE_ARRAY);
+    }
+
+    private static @Nullable ItemStack storedItem(@NotNull ItemStack book) {
+        byte[] bytes = book.getItemMeta().getPersistentDataContainer().get(HELD_ITEM, PersistentDataType.BYTE_ARRAY);
+        return bytes == null || bytes.length == 0 ? null : ItemStack.deserializeBytes(bytes);
+    }
+
+    /**
+     * Gets the session ID for this handler.
+     *
+     * @return The session ID
+     */
+    @Override
+    public @NotNull UUID getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Book handed to a session participant.
+     *
+     * @param player The participant
+     * @param slot The inventory slot holding the book
+     */
+    private record HeldBook(@NotNull Player player, int slot) {
+    }
+}
@@ -2,24 +2,22 @@ package com.mongenscave.mcchatsetup.handler;
 
 import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
 import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.model.InputRateLimit;
+import com.mongenscave.mcchatsetup.model.PlayerRoute;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles chat events for active chat sessions.
- * This class is responsible for processing player chat input and quit events.
+ * This class is responsible for processing player chat input routed to its session.
  * Uses UUID-based session identification for better session management.
  */
-public final class ChatEventHandler implements Listener {
+public final class ChatEventHandler implements InputHandler {
     private final JavaPlugin plugin;
     private final ChatSessionManager sessionManager;
     private final ChatSession session;
@@ -36,99 +34,101 @@ public final class ChatEventHandler implements Listener {
     }
 
     /**
-     * Handles chat events from players in active sessions.
+     * Handles chat events from players routed to this session.
+     * The rate limit is applied first, so flooded input never reaches the keyword check or validator.
      *
      * @param event The chat event
+     * @param route The routing entry of the sender
      */
-    @EventHandler
-    public void onPlayerChat(final @NotNull AsyncPlayerChatEvent event) {
+    public void handleChat(final @NotNull AsyncPlayerChatEvent event, final @NotNull PlayerRoute route) {
         Player player = event.getPlayer();
 
         if (!sessionManager.isSessionActive(sessionId)) {
             return;
         }
 
-        if (!session.getPlayers().contains(player)) {
-            return;
-        }
-
         String message = event.getMessage();
 
-        if (message.equalsIgnoreCase(session.getCancelCommand())) {
-            event.setCancelled(true);
-            handleSessionCancel();
-            return;
+        InputRateLimit rateLimit = session.getRateLimit();
+        if (rateLimit != null) {
+            long wait = route.tryAcquire(rateLimit, System.nanoTime());
+            if (wait > 0) {
+                event.setCancelled(true);
+                handleFlood(player, route, rateLimit, message, wait);
+                return;
+            }
         }
 
-        Predicate<String> validator = session.getValidator();
-        if (validator != null && !validator.test(message)) {
-            return;
-        }
-
-        event.setCancelled(true);
-        handleSuccessfulInput(message);
+        if (processInput(player, message)) event.setCancelled(true);
     }
 
     /**
-     * Handles player quit events to clean up sessions.
+     * Normalizes a chat input once and runs the control keyword check and validator on it.
      *
-     * @param event The player quit event
+     * @param player The player who sent the input
+     * @param message The raw input
+     * @return true if the input was consumed by the session and must not appear in chat
      */
-    @EventHandler
-    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-
-        // Check if this session is still active
-        if (!sessionManager.isSessionActive(sessionId)) {
-            return;
-        }
+    private boolean processInput(@NotNull Player player, @NotNull String message) {
+        String input = session.normalize(message);
+        if (sessionManager.handleControlInput(sessionId, player, input)) return true;
 
-        if (!session.getPlayers().contains(player)) {
-            return;
-        }
+        if (!sessionManager.validateInput(sessionId, player, input, message)) return false;
 
-        session.removePlayer(player);
-
-        if (session.isEmpty()) {
-            handleSessionFailure();
-        }
+        sessionManager.submitInput(sessionId, player, input, message);
+        return true;
     }
 
     /**
-     * Handles successful input processing.
+     * Applies the session flood action to an input that exceeded the rate limit.
      *
-     * @param input The player's input
+     * @param player The player who sent the input
+     * @param route The routing entry of the player
+     * @param rateLimit The rate limit of the session
+     * @param message The input
+     * @param waitNanos The time until the limit allows another input
      */
-    private void handleSuccessfulInput(String input) {
-        Consumer<String> onInput = session.getOnInput();
-        if (onInput != null) {
-            plugin.getServer().getScheduler().runTask(plugin, () -> onInput.accept(input));
+    private void handleFlood(@NotNull Player player, @NotNull PlayerRoute route, @NotNull InputRateLimit rateLimit,
+                             @NotNull String message, long waitNanos) {
+        switch (rateLimit.action()) {
+            case DROP -> sessionManager.recordDroppedInput();
+            case FAIL -> {
+                sessionManager.recordDroppedInput();
+                sessionManager.failFloodedInput(sessionId, player);
+            }
+            case DELAY -> {
+                if (!route.getDelayedInputPending().compareAndSet(false, true)) {
+                    sessionManager.recordDroppedInput();
+                    return;
+                }
+
+                sessionManager.getScheduler().runAsyncLater(plugin, () -> {
+                    route.getDelayedInputPending().set(false);
+                    if (sessionManager.getRoute(player.getUniqueId()) != route) return;
+                    if (route.tryAcquire(rateLimit, System.nanoTime()) > 0) {
+                        sessionManager.recordDroppedInput();
+                        return;
+                    }
+                    processInput(player, message);
+                }, waitNanos, TimeUnit.NANOSECONDS);
+            }
         }
-
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnSuccess().run();
-        });
     }
 
     /**
-     * Handles session cancellation.
+     * Chat sessions hold no per-player resources.
+     *
+     * @param player The player that left the session
      */
-    private void handleSessionCancel() {
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnFail().run();
-        });
+    @Override
+    public void release(@NotNull Player player) {
     }
 
     /**
-     * Handles session failure (timeout or player quit).
+     * Chat sessions hold no resources.
      */
-    private void handleSessionFailure() {
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnFail().run();
-        });
+    @Override
+    public void cleanup() {
     }
 
     /**
@@ -136,7 +136,8 @@ public final class ChatEventHandler implements Listener {
      *
      * @return The session ID
      */
+    @Override
     public @NotNull UUID getSessionId() {
         return sessionId;
     }
-}
\ No newline at end of file
+}
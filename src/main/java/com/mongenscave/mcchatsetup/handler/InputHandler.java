@@ -0,0 +1,33 @@
+package com.mongenscave.mcchatsetup.handler;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Per-session input handler.
+ * Handlers are not registered as listeners themselves; the shared {@link SessionRouter}
+ * dispatches events to the handler of the session a player is routed to.
+ */
+public interface InputHandler {
+
+    /**
+     * Gets the session ID for this handler.
+     *
+     * @return The session ID
+     */
+    @NotNull UUID getSessionId();
+
+    /**
+     * Releases any per-player resources after the player left the session.
+     *
+     * @param player The player that left the session
+     */
+    void release(@NotNull Player player);
+
+    /**
+     * Releases all resources held by this handler.
+     */
+    void cleanup();
+}
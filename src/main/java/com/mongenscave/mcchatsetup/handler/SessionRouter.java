@@ -0,0 +1,225 @@
+package com.mongenscave.mcchatsetup.handler;
+
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.PlayerRoute;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.PrepareAnvilEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerEditBookEvent;
+import org.bukkit.event.player.PlayerInteractAtEntityEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Single listener that routes player events to the session each player is bound to.
+ * One router is registered per session manager regardless of how many sessions are active,
+ * so every event costs one map lookup instead of one listener invocation per session.
+ */
+public final class SessionRouter implements Listener {
+    private final ChatSessionManager sessionManager;
+
+    public SessionRouter(@NotNull ChatSessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * Routes chat events to the chat session of the sender.
+     *
+     * @param event The chat event
+     */
+    @EventHandler
+    public void onPlayerChat(final @NotNull AsyncPlayerChatEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof ChatEventHandler chatHandler) chatHandler.handleChat(event, route);
+    }
+
+    /**
+     * Holds back chat from isolated session participants.
+     * Runs last so the viewer set and renderer are final.
+     *
+     * @param event The chat event being rendered
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onChatRender(final @NotNull AsyncChatEvent event) {
+        sessionManager.getChatIsolationService().capture(event);
+    }
+
+    /**
+     * Routes sign change events to the sign session of the editor.
+     *
+     * @param event The sign change event
+     */
+    @EventHandler
+    public void onSignChange(final @NotNull SignChangeEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof SignInputHandler signHandler) signHandler.handleSignChange(event);
+    }
+
+    /**
+     * Keeps the result slot of session anvils clickable.
+     *
+     * @param event The prepare anvil event
+     */
+    @EventHandler
+    public void onPrepareAnvil(final @NotNull PrepareAnvilEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getView().getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof AnvilInputHandler anvilHandler) anvilHandler.handlePrepare(event);
+    }
+
+    /**
+     * Routes inventory clicks to the anvil or book session of the clicker.
+     *
+     * @param event The inventory click event
+     */
+    @EventHandler
+    public void onInventoryClick(final @NotNull InventoryClickEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getWhoClicked().getUniqueId());
+        if (route == null) return;
+
+        if (route.getHandler() instanceof AnvilInputHandler anvilHandler) anvilHandler.handleClick(event);
+        else if (route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleClick(event);
+    }
+
+    /**
+     * Routes book edits to the book session of the writer.
+     *
+     * @param event The book edit event
+     */
+    @EventHandler
+    public void onEditBook(final @NotNull PlayerEditBookEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleEdit(event);
+    }
+
+    /**
+     * Keeps session books from being dropped.
+     *
+     * @param event The drop event
+     */
+    @EventHandler
+    public void onDropItem(final @NotNull PlayerDropItemEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleDrop(event);
+    }
+
+    /**
+     * Keeps session books from being swapped to the off hand.
+     *
+     * @param event The swap event
+     */
+    @EventHandler
+    public void onSwapHands(final @NotNull PlayerSwapHandItemsEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleSwap(event);
+    }
+
+    /**
+     * Keeps session books from being placed on lecterns.
+     *
+     * @param event The interact event
+     */
+    @EventHandler
+    public void onInteract(final @NotNull PlayerInteractEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleInteract(event);
+    }
+
+    /**
+     * Keeps session books from being put into item frames.
+     *
+     * @param event The entity interact event
+     */
+    @EventHandler
+    public void onInteractEntity(final @NotNull PlayerInteractEntityEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleInteractEntity(event);
+    }
+
+    /**
+     * Keeps session books from being put onto armor stands.
+     *
+     * @param event The entity interact event
+     */
+    @EventHandler
+    public void onInteractAtEntity(final @NotNull PlayerInteractAtEntityEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleInteractEntity(event);
+    }
+
+    /**
+     * Replaces session books in death drops with the items they hold.
+     *
+     * @param event The death event
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerDeath(final @NotNull PlayerDeathEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof BookInputHandler bookHandler) bookHandler.handleDeath(event);
+    }
+
+    /**
+     * Routes inventory drags to the anvil session of the player.
+     *
+     * @param event The inventory drag event
+     */
+    @EventHandler
+    public void onInventoryDrag(final @NotNull InventoryDragEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getWhoClicked().getUniqueId());
+        if (route != null && route.getHandler() instanceof AnvilInputHandler anvilHandler) anvilHandler.handleDrag(event);
+    }
+
+    /**
+     * Routes inventory closes to the anvil session of the player.
+     *
+     * @param event The inventory close event
+     */
+    @EventHandler
+    public void onInventoryClose(final @NotNull InventoryCloseEvent event) {
+        PlayerRoute route = sessionManager.getRoute(event.getPlayer().getUniqueId());
+        if (route != null && route.getHandler() instanceof AnvilInputHandler anvilHandler) anvilHandler.handleClose(event);
+    }
+
+    /**
+     * Starts prompts handed off to or deferred for joining players.
+     *
+     * @param event The player join event
+     */
+    @EventHandler
+    public void onPlayerJoin(final @NotNull PlayerJoinEvent event) {
+        sessionManager.handleJoin(event.getPlayer());
+    }
+
+    /**
+     * Removes quitting players from their session.
+     *
+     * @param event The player quit event
+     */
+    @EventHandler
+    public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+        sessionManager.handleQuit(event.getPlayer());
+    }
+
+    /**
+     * Ends the sessions owned by a plugin that is being disabled.
+     *
+     * @param event The plugin disable event
+     */
+    @EventHandler
+    public void onPluginDisable(final @NotNull PluginDisableEvent event) {
+        sessionManager.handlePluginDisable(event.getPlugin());
+    }
+}
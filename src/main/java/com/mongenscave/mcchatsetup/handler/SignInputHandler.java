@@ -2,37 +2,37 @@ package com.mongenscave.mcchatsetup.handler;
 
 import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
 import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.service.SignPlacementService;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.Sign;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.SignChangeEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Handles sign input events for chat sessions.
  * Creates and manages sign interfaces for player input.
+ * Sign blocks are placed and removed on the thread owning the player or block, so the handler
+ * also works on region-threaded servers. Positions come from the {@link SignPlacementService}.
  */
-public final class SignInputHandler implements Listener {
+public final class SignInputHandler implements InputHandler {
+    private static final Pattern COLOR_CODES = Pattern.compile("§[0-9a-fk-or]");
+
     private final JavaPlugin plugin;
     private final ChatSessionManager sessionManager;
     private final ChatSession session;
     private final UUID sessionId;
-    private final Map<UUID, Block> playerSigns = new HashMap<>();
+    private final Map<UUID, Block> playerSigns = new ConcurrentHashMap<>();
 
     public SignInputHandler(@NotNull JavaPlugin plugin,
                             @NotNull ChatSessionManager sessionManager,
@@ -49,7 +49,7 @@ public final class SignInputHandler implements Listener {
      */
     public void openSignForPlayers() {
         for (Player player : session.getPlayers()) {
-            openSignEditor(player);
+            sessionManager.getScheduler().executeForPlayer(plugin, player, () -> openSignEditor(player));
         }
     }
 
@@ -59,11 +59,16 @@ public final class SignInputHandler implements Listener {
      * @param player The player to open the sign editor for
      */
     private void openSignEditor(@NotNull Player player) {
-        Block signBlock = player.getLocation().add(0, 3, 0).getBlock();
+        if (!sessionManager.isSessionActive(sessionId) || !player.isOnline()) return;
 
-        if (!signBlock.getType().isAir()) signBlock = player.getWorld().getHighestBlockAt(player.getLocation()).getRelative(0, 1, 0);
+        Block signBlock = sessionManager.getSignPlacementService().place(plugin, player);
+        if (signBlock == null) {
+            plugin.getLogger().warning("No loaded free position for an input sign near " + player.getName());
+            sessionManager.failPlayer(sessionId, player);
+            return;
+        }
 
-        signBlock.setType(Material.OAK_SIGN);
+        playerSigns.put(player.getUniqueId(), signBlock);
         BlockState state = signBlock.getState();
 
         if (state instanceof Sign sign) {
@@ -73,76 +78,70 @@ public final class SignInputHandler implements Listener {
             sign.line(3, Component.text(""));
             sign.update();
 
-            playerSigns.put(player.getUniqueId(), signBlock);
             player.openSign(sign);
         }
     }
 
     /**
-     * Handles sign change events.
+     * Handles sign change events from players routed to this session.
      *
      * @param event The sign change event
      */
-    @EventHandler
-    public void onSignChange(@NotNull SignChangeEvent event) {
+    public void handleSignChange(@NotNull SignChangeEvent event) {
         Player player = event.getPlayer();
 
         if (!sessionManager.isSessionActive(sessionId)) return;
-        if (!session.getPlayers().contains(player)) return;
 
         Block signBlock = playerSigns.get(player.getUniqueId());
         if (signBlock == null || !signBlock.equals(event.getBlock())) return;
 
-        String[] lines = new String[4];
-        for (int i = 0; i < 4; i++) {
-            Component line = event.line(i);
-            if (line != null) {
-                lines[i] = LegacyComponentSerializer.legacySection().serialize(line);
-                lines[i] = lines[i].replaceAll("§[0-9a-fk-or]", "");
-            } else lines[i] = "";
-        }
-
-        String input = Arrays.stream(lines)
-                .filter(line -> line != null && !line.trim().isEmpty())
-                .reduce((a, b) -> a + " " + b)
-                .orElse("");
+        String rawInput = extractText(event.lines());
+        String input = session.normalize(rawInput);
 
         removePlayerSign(player);
 
-        if (input.equalsIgnoreCase(session.getCancelCommand())) {
+        if (sessionManager.handleControlInput(sessionId, player, input)) {
             event.setCancelled(true);
-            handleSessionCancel();
             return;
         }
 
-        Predicate<String> validator = session.getValidator();
-        if (validator != null && !validator.test(input)) {
+        if (!sessionManager.validateInput(sessionId, player, input, rawInput)) {
             event.setCancelled(true);
             return;
         }
 
         event.setCancelled(true);
-        handleSuccessfulInput(input);
+        sessionManager.submitInput(sessionId, player, input, rawInput);
     }
 
     /**
-     * Handles player quit events to clean up sessions.
+     * Joins the non-blank lines of a sign with spaces, stripping legacy color codes.
      *
-     * @param event The player quit event
+     * @param lines The sign lines
+     * @return The text of the sign
      */
-    @EventHandler
-    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
-        Player player = event.getPlayer();
+    public static @NotNull String extractText(@NotNull List<Component> lines) {
+        StringBuilder text = new StringBuilder();
+        for (Component line : lines) {
+            if (line == null) continue;
 
-        if (!sessionManager.isSessionActive(sessionId)) return;
-        if (!session.getPlayers().contains(player)) return;
-
-        removePlayerSign(player);
-        session.removePlayer(player);
+            String plain = COLOR_CODES.matcher(LegacyComponentSerializer.legacySection().serialize(line)).replaceAll("");
+            if (plain.isBlank()) continue;
 
-        if (session.isEmpty()) {
-            handleSessionFailure();
+            if (!text.isEmpty()) text.append(' ');
+            text.append(plain);
         }
+        return text.toString();
+    }
+
+    /**
+     * Removes the temporary sign of a player that left the session.
+     *
+     * @param player The player that left the session
+     */
+    @Override
+    public void release(@NotNull Player player) {
+        removePlayerSign(player);
     }
 
     /**
@@ -152,55 +151,27 @@ public final class SignInputHandler implements Listener {
      */
     private void removePlayerSign(@NotNull Player player) {
         Block signBlock = playerSigns.remove(player.getUniqueId());
-        if (signBlock != null && signBlock.getType() == Material.OAK_SIGN) {
-            signBlock.setType(Material.AIR);
-        }
+        if (signBlock != null) removeSignBlock(signBlock);
     }
 
     /**
      * Cleans up all temporary signs.
      */
+    @Override
     public void cleanup() {
         for (Map.Entry<UUID, Block> entry : playerSigns.entrySet()) {
-            Block signBlock = entry.getValue();
-            if (signBlock.getType() == Material.OAK_SIGN) signBlock.setType(Material.AIR);
+            removeSignBlock(entry.getValue());
         }
         playerSigns.clear();
     }
 
     /**
-     * Handles successful input processing.
+     * Removes a temporary sign block on the thread owning its region and frees its position.
      *
-     * @param input The player's input
-     */
-    private void handleSuccessfulInput(@NotNull String input) {
-        Consumer<String> onInput = session.getOnInput();
-        if (onInput != null) plugin.getServer().getScheduler().runTask(plugin, () -> onInput.accept(input));
-
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnSuccess().run();
-        });
-    }
-
-    /**
-     * Handles session cancellation.
-     */
-    private void handleSessionCancel() {
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnFail().run();
-        });
-    }
-
-    /**
-     * Handles session failure.
+     * @param signBlock The sign block to remove
      */
-    private void handleSessionFailure() {
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            sessionManager.endSession(sessionId);
-            session.getOnFail().run();
-        });
+    private void removeSignBlock(@NotNull Block signBlock) {
+        sessionManager.getSignPlacementService().remove(plugin, signBlock);
     }
 
     /**
@@ -208,6 +179,7 @@ public final class SignInputHandler implements Listener {
      *
      * @return The session ID
      */
+    @Override
     public @NotNull UUID getSessionId() {
         return sessionId;
     }
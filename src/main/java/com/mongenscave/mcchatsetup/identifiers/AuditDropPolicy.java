@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the policies applied when the audit queue is full.
+ */
+public enum AuditDropPolicy {
+    /**
+     * Discards the record being submitted
+     */
+    DROP_NEWEST,
+
+    /**
+     * Discards the oldest queued record to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /**
+     * Waits a bounded amount of time for the writer to free space, then discards the new record
+     */
+    BLOCK
+}
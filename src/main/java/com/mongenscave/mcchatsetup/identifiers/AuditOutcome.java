@@ -0,0 +1,36 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the outcomes recorded for a submitted input in the audit log.
+ */
+public enum AuditOutcome {
+    /**
+     * The input passed validation and was handed to the session callbacks
+     */
+    ACCEPTED,
+
+    /**
+     * The input was rejected by the session validator
+     */
+    REJECTED,
+
+    /**
+     * The input matched the cancel command and ended the session
+     */
+    CANCELLED,
+
+    /**
+     * The input matched the back keyword and left the session
+     */
+    BACK,
+
+    /**
+     * The input matched the skip keyword and left the session
+     */
+    SKIPPED,
+
+    /**
+     * The input matched the help keyword and showed the prompt again
+     */
+    HELP
+}
@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the session callbacks timed by the callback profiler.
+ */
+public enum CallbackKind {
+    /**
+     * The input callbacks, {@code onInput} and {@code onRawInput}
+     */
+    INPUT,
+
+    /**
+     * The success callback
+     */
+    SUCCESS,
+
+    /**
+     * The failure callback
+     */
+    FAIL
+}
@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the ways other players' chat is handled while a participant is answering a prompt.
+ */
+public enum ChatIsolation {
+    /**
+     * Participants keep receiving chat as usual
+     */
+    NONE,
+
+    /**
+     * Chat is held back and replayed when the participant leaves the session
+     */
+    REPLAY,
+
+    /**
+     * Chat is held back and summarized by count when the participant leaves the session
+     */
+    SUMMARY
+}
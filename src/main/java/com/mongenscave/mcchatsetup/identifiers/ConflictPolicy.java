@@ -0,0 +1,16 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the ways a new session resolves a player who is already in another prompt.
+ */
+public enum ConflictPolicy {
+    /**
+     * The player is taken from the existing session and joins the new one
+     */
+    REPLACE,
+
+    /**
+     * The player stays in the existing session and is left out of the new one
+     */
+    REJECT
+}
@@ -0,0 +1,26 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the control keywords a player can type instead of an answer.
+ */
+public enum ControlKeyword {
+    /**
+     * Cancels the session
+     */
+    CANCEL,
+
+    /**
+     * Leaves the session to return to the previous step
+     */
+    BACK,
+
+    /**
+     * Leaves the session without answering so the next step can start
+     */
+    SKIP,
+
+    /**
+     * Shows the prompt again without ending the session
+     */
+    HELP
+}
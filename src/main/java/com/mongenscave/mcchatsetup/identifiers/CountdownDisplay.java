@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the ways the remaining time of a session can be shown to its players.
+ */
+public enum CountdownDisplay {
+    /**
+     * No live countdown is shown
+     */
+    NONE,
+
+    /**
+     * The remaining time is shown in the action bar
+     */
+    ACTION_BAR,
+
+    /**
+     * The remaining time is shown in a boss bar that drains as time runs out
+     */
+    BOSS_BAR
+}
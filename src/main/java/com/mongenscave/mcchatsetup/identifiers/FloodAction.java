@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the actions taken when a player exceeds the input rate limit of a session.
+ */
+public enum FloodAction {
+    /**
+     * The excess input is discarded
+     */
+    DROP,
+
+    /**
+     * The excess input is processed once the limit allows it; further input while one is waiting is discarded
+     */
+    DELAY,
+
+    /**
+     * The player fails the session
+     */
+    FAIL
+}
@@ -12,5 +12,15 @@ public enum InputType {
     /**
      * Sign input - players edit a sign
      */
-    SIGN
+    SIGN,
+
+    /**
+     * Anvil input - players rename an item in an anvil
+     */
+    ANVIL,
+
+    /**
+     * Book input - players write in a book and quill
+     */
+    BOOK
 }
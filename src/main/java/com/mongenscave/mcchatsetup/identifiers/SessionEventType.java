@@ -0,0 +1,41 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the session events captured by the session recorder.
+ */
+public enum SessionEventType {
+    /**
+     * A session started; the payload lists the UUIDs of its players
+     */
+    START,
+
+    /**
+     * A player submitted input; the payload is the normalized input
+     */
+    INPUT,
+
+    /**
+     * The validator rejected an input; the payload is the input
+     */
+    REJECT,
+
+    /**
+     * The input callback of a session ran; the payload is the input
+     */
+    CALLBACK,
+
+    /**
+     * A session reached its deadline
+     */
+    TIMEOUT,
+
+    /**
+     * A player in a session left the server
+     */
+    QUIT,
+
+    /**
+     * A session ended; the payload is its outcome
+     */
+    END
+}
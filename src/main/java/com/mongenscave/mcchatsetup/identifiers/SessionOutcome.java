@@ -0,0 +1,65 @@
+package com.mongenscave.mcchatsetup.identifiers;
+
+/**
+ * Enumeration of the ways a chat session can end.
+ */
+public enum SessionOutcome {
+    /**
+     * A participant provided valid input
+     */
+    SUCCESS,
+
+    /**
+     * A participant typed the cancel command
+     */
+    CANCELLED,
+
+    /**
+     * The time limit elapsed without valid input
+     */
+    TIMEOUT,
+
+    /**
+     * A participant typed the back keyword
+     */
+    BACK,
+
+    /**
+     * A participant typed the skip keyword
+     */
+    SKIPPED,
+
+    /**
+     * Every participant left the server
+     */
+    QUIT,
+
+    /**
+     * Every participant was claimed by a newer session
+     */
+    REPLACED,
+
+    /**
+     * A participant exceeded the input rate limit of a session configured to fail on abuse
+     */
+    RATE_LIMITED,
+
+    /**
+     * The session was ended programmatically or its owning plugin was disabled
+     */
+    ABORTED,
+
+    /**
+     * The input screen could not be opened for a participant
+     */
+    FAILED;
+
+    /**
+     * Checks whether this outcome counts as a successful session.
+     *
+     * @return true for {@link #SUCCESS}
+     */
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+}
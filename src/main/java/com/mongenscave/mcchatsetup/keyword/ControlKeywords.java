@@ -0,0 +1,121 @@
+package com.mongenscave.mcchatsetup.keyword;
+
+import com.mongenscave.mcchatsetup.identifiers.ControlKeyword;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Declarative set of control keywords and their aliases per locale.
+ * Compiles into a {@link KeywordMatcher}; the compiled matcher is cached until the definition changes,
+ * so every session using the same definition shares one matcher.
+ */
+public final class ControlKeywords {
+    private final Map<Locale, Map<ControlKeyword, List<String>>> aliases = new HashMap<>();
+    private String prefix = "";
+    private KeywordMatcher compiled;
+
+    private ControlKeywords() {
+    }
+
+    /**
+     * Creates an empty keyword set.
+     *
+     * @return A new keyword set
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull ControlKeywords create() {
+        return new ControlKeywords();
+    }
+
+    /**
+     * Loads keywords from a configuration section.
+     * Supported keys: {@code prefix}, one alias list per keyword ({@code cancel}, {@code back}, {@code skip},
+     * {@code help}) and {@code locales.<tag>.<keyword>} for locale-specific aliases such as {@code locales.de.cancel}.
+     *
+     * @param section The configuration section
+     * @return The loaded keyword set
+     */
+    public static @NotNull ControlKeywords fromConfig(@NotNull ConfigurationSection section) {
+        ControlKeywords keywords = create().prefix(section.getString("prefix", ""));
+        loadAliases(keywords, Locale.ROOT, section);
+
+        ConfigurationSection locales = section.getConfigurationSection("locales");
+        if (locales != null) {
+            for (String tag : locales.getKeys(false)) {
+                ConfigurationSection localeSection = locales.getConfigurationSection(tag);
+                if (localeSection != null) loadAliases(keywords, Locale.forLanguageTag(tag.replace('_', '-')), localeSection);
+            }
+        }
+
+        return keywords;
+    }
+
+    /**
+     * Sets the prefix that must precede every keyword, such as {@code !}.
+     *
+     * @param prefix The prefix, empty for none
+     * @return This instance for method chaining
+     */
+    public synchronized @NotNull ControlKeywords prefix(@NotNull String prefix) {
+        this.prefix = prefix;
+        compiled = null;
+        return this;
+    }
+
+    /**
+     * Adds aliases of a keyword that work for every locale.
+     *
+     * @param keyword The keyword
+     * @param aliases The words that trigger the keyword
+     * @return This instance for method chaining
+     */
+    public @NotNull ControlKeywords alias(@NotNull ControlKeyword keyword, @NotNull String... aliases) {
+        return alias(Locale.ROOT, keyword, aliases);
+    }
+
+    /**
+     * Adds aliases of a keyword for players using a locale.
+     * A language-only locale such as {@link Locale#GERMAN} applies to every country of that language.
+     *
+     * @param locale The locale
+     * @param keyword The keyword
+     * @param aliases The words that trigger the keyword
+     * @return This instance for method chaining
+     */
+    public synchronized @NotNull ControlKeywords alias(@NotNull Locale locale, @NotNull ControlKeyword keyword,
+                                                       @NotNull String... aliases) {
+        this.aliases.computeIfAbsent(locale, key -> new EnumMap<>(ControlKeyword.class))
+                .computeIfAbsent(keyword, key -> new ArrayList<>())
+                .addAll(Arrays.asList(aliases));
+        compiled = null;
+        return this;
+    }
+
+    /**
+     * Compiles the keywords into a matcher, reusing the previous matcher if nothing changed.
+     *
+     * @return The compiled matcher
+     */
+    public synchronized @NotNull KeywordMatcher compile() {
+        if (compiled == null) compiled = new KeywordMatcher(prefix, aliases);
+        return compiled;
+    }
+
+    private static void loadAliases(@NotNull ControlKeywords keywords, @NotNull Locale locale,
+                                    @NotNull ConfigurationSection section) {
+        for (ControlKeyword keyword : ControlKeyword.values()) {
+            String key = keyword.name().toLowerCase(Locale.ROOT);
+            if (section.isList(key)) keywords.alias(locale, keyword, section.getStringList(key).toArray(String[]::new));
+            else if (section.isString(key)) keywords.alias(locale, keyword, section.getString(key, ""));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.mongenscave.mcchatsetup.keyword;
+
+import com.mongenscave.mcchatsetup.identifiers.ControlKeyword;
+import com.mongenscave.mcchatsetup.util.CaseFoldingTrie;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled control keyword matcher shared by every session using the same keywords.
+ * Each locale gets a case-folding trie holding the locale-independent aliases plus the aliases of
+ * its language and of the exact locale, built on first use and cached.
+ * Matching reads the input at most once and never allocates.
+ */
+public final class KeywordMatcher {
+    private static final ConcurrentMap<String, KeywordMatcher> CANCEL_ONLY = new ConcurrentHashMap<>();
+
+    private final String prefix;
+    private final Map<Locale, Map<ControlKeyword, List<String>>> aliases;
+    private final ConcurrentMap<Locale, CaseFoldingTrie<ControlKeyword>> tries = new ConcurrentHashMap<>();
+
+    KeywordMatcher(@NotNull String prefix, @NotNull Map<Locale, Map<ControlKeyword, List<String>>> aliases) {
+        this.prefix = prefix;
+
+        Map<Locale, Map<ControlKeyword, List<String>>> copy = new HashMap<>();
+        aliases.forEach((locale, keywords) -> {
+            Map<ControlKeyword, List<String>> keywordCopy = new EnumMap<>(ControlKeyword.class);
+            keywords.forEach((keyword, words) -> keywordCopy.put(keyword, List.copyOf(words)));
+            copy.put(locale, keywordCopy);
+        });
+        this.aliases = copy;
+    }
+
+    /**
+     * Gets the shared matcher for sessions that only configure a single cancel command.
+     *
+     * @param cancelCommand The cancel command
+     * @return The shared matcher
+     */
+    public static @NotNull KeywordMatcher cancelOnly(@NotNull String cancelCommand) {
+        return CANCEL_ONLY.computeIfAbsent(cancelCommand, command ->
+                new KeywordMatcher("", Map.of(Locale.ROOT, Map.of(ControlKeyword.CANCEL, List.of(command)))));
+    }
+
+    /**
+     * Matches an input against the keywords of a locale.
+     * Surrounding whitespace is ignored and the prefix, if any, must match exactly.
+     *
+     * @param input The input
+     * @param locale The locale of the player
+     * @return The matched keyword, or null if the input is not a keyword
+     */
+    public @Nullable ControlKeyword match(@NotNull String input, @NotNull Locale locale) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && Character.isWhitespace(input.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) end--;
+
+        if (!input.startsWith(prefix, start)) return null;
+        start += prefix.length();
+        if (start >= end) return null;
+
+        return trieFor(locale).get(input, start, end);
+    }
+
+    /**
+     * Gets the text a player types for a keyword, used to show the keyword in prompts.
+     *
+     * @param keyword The keyword
+     * @param locale The locale of the player
+     * @return The prefixed first alias of the keyword for the locale, or null if the keyword has no alias
+     */
+    public @Nullable String display(@NotNull ControlKeyword keyword, @NotNull Locale locale) {
+        String alias = firstAlias(locale, keyword);
+        if (alias == null && !locale.getCountry().isEmpty()) alias = firstAlias(Locale.forLanguageTag(locale.getLanguage()), keyword);
+        if (alias == null) alias = firstAlias(Locale.ROOT, keyword);
+        return alias != null ? prefix + alias : null;
+    }
+
+    /**
+     * Gets the prefix that must precede every keyword.
+     *
+     * @return The prefix, empty for none
+     */
+    public @NotNull String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the trie of a locale, building it on first use.
+     *
+     * @param locale The locale
+     * @return The trie
+     */
+    private @NotNull CaseFoldingTrie<ControlKeyword> trieFor(@NotNull Locale locale) {
+        CaseFoldingTrie<ControlKeyword> trie = tries.get(locale);
+        if (trie != null) return trie;
+
+        return tries.computeIfAbsent(locale, key -> {
+            CaseFoldingTrie<ControlKeyword> built = new CaseFoldingTrie<>();
+            addAliases(built, Locale.ROOT);
+            if (!key.getLanguage().isEmpty()) addAliases(built, Locale.forLanguageTag(key.getLanguage()));
+            if (!key.getCountry().isEmpty()) addAliases(built, key);
+            return built;
+        });
+    }
+
+    private @Nullable String firstAlias(@NotNull Locale locale, @NotNull ControlKeyword keyword) {
+        Map<ControlKeyword, List<String>> keywords = aliases.get(locale);
+        if (keywords == null) return null;
+
+        List<String> words = keywords.get(keyword);
+        return words == null || words.isEmpty() ? null : words.get(0);
+    }
+
+    private void addAliases(@NotNull CaseFoldingTrie<ControlKeyword> trie, @NotNull Locale locale) {
+        Map<ControlKeyword, List<String>> keywords = aliases.get(locale);
+        if (keywords == null) return;
+
+        keywords.forEach((keyword, words) -> words.forEach(word -> trie.put(word, keyword)));
+    }
+}
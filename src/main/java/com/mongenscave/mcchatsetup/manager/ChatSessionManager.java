@@ -1,72 +1,207 @@
 package com.mongenscave.mcchatsetup.manager;
 
+import com.mongenscave.mcchatsetup.event.ChatSessionEndEvent;
+import com.mongenscave.mcchatsetup.event.ChatSessionInputEvent;
+import com.mongenscave.mcchatsetup.event.ChatSessionStartEvent;
+import com.mongenscave.mcchatsetup.handler.AnvilInputHandler;
+import com.mongenscave.mcchatsetup.handler.BookInputHandler;
 import com.mongenscave.mcchatsetup.handler.ChatEventHandler;
+import com.mongenscave.mcchatsetup.handler.InputHandler;
+import com.mongenscave.mcchatsetup.handler.SessionRouter;
 import com.mongenscave.mcchatsetup.handler.SignInputHandler;
+import com.mongenscave.mcchatsetup.command.ChatSetupCommand;
+import com.mongenscave.mcchatsetup.identifiers.AuditOutcome;
+import com.mongenscave.mcchatsetup.identifiers.CallbackKind;
+import com.mongenscave.mcchatsetup.identifiers.ConflictPolicy;
+import com.mongenscave.mcchatsetup.identifiers.ControlKeyword;
+import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.keyword.KeywordMatcher;
+import com.mongenscave.mcchatsetup.model.AuditRecord;
 import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.model.Choice;
+import com.mongenscave.mcchatsetup.model.ChoiceButtons;
+import com.mongenscave.mcchatsetup.model.PlayerRoute;
+import com.mongenscave.mcchatsetup.model.PollResult;
+import com.mongenscave.mcchatsetup.model.PollState;
+import com.mongenscave.mcchatsetup.recording.SessionRecorder;
+import com.mongenscave.mcchatsetup.scheduler.ManualSessionScheduler;
+import com.mongenscave.mcchatsetup.scheduler.SessionScheduler;
+import com.mongenscave.mcchatsetup.scheduler.TaskHandle;
+import com.mongenscave.mcchatsetup.service.AuditLogWriter;
+import com.mongenscave.mcchatsetup.service.CallbackProfiler;
+import com.mongenscave.mcchatsetup.service.ChatIsolationService;
+import com.mongenscave.mcchatsetup.service.CountdownService;
+import com.mongenscave.mcchatsetup.service.DeferredSessionService;
+import com.mongenscave.mcchatsetup.service.HandoffService;
 import com.mongenscave.mcchatsetup.service.MessageFormatter;
 import com.mongenscave.mcchatsetup.service.PlayerFilterService;
+import com.mongenscave.mcchatsetup.service.SignPlacementService;
+import com.mongenscave.mcchatsetup.service.SuggestionService;
+import com.mongenscave.mcchatsetup.suggestion.SuggestionProvider;
+import com.mongenscave.mcchatsetup.template.PromptTemplate;
+import com.mongenscave.mcchatsetup.transport.SessionResult;
+import com.mongenscave.mcchatsetup.transport.SessionTransport;
+import com.mongenscave.mcchatsetup.validation.CompiledValidator;
+import com.mongenscave.mcchatsetup.validation.ValidationRules;
+import lombok.Getter;
 import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandMap;
 import org.bukkit.entity.Player;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 
 /**
  * Main service class for managing chat sessions.
- * Handles session lifecycle, event registration, and timeout management.
+ * Handles session lifecycle, event routing, and timeout management.
  * Uses UUID-based session tracking instead of ChatSession objects as keys.
+ * A single {@link SessionRouter} and a single timeout ticker serve every session of this manager.
  */
 public final class ChatSessionManager {
-    private final JavaPlugin plugin;
+    private static final Duration CHOICE_GRACE = Duration.ofSeconds(10);
+
     private final MessageFormatter messageFormatter;
     private final PlayerFilterService playerFilterService;
+    private final CountdownService countdownService;
+    private final ChatIsolationService chatIsolationService;
+    private final SuggestionService suggestionService;
+    private final SignPlacementService signPlacementService;
+    private final DeferredSessionService deferredSessionService;
     private final ConcurrentMap<UUID, ActiveSession> activeSessions;
+    private final ConcurrentMap<UUID, PlayerRoute> routes;
+    private final ConcurrentMap<UUID, Runnable> playerClaims;
+    private final Set<JavaPlugin> owners;
+    private final List<Consumer<JavaPlugin>> hostListeners;
+    private final SessionRouter router;
+    private final SessionScheduler scheduler;
+    private final LongAdder droppedInputs = new LongAdder();
+    private volatile JavaPlugin plugin;
+    private volatile AuditLogWriter auditSink;
+    private volatile HandoffService handoffService;
+    private volatile SessionRecorder recorder;
+    private volatile CallbackProfiler profiler;
+    private ChatSetupCommand command;
+    private TaskHandle ticker;
+    private boolean routerRegistered;
+    private int tickCount;
 
     public ChatSessionManager(@NotNull JavaPlugin plugin) {
+        this(plugin, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Creates a session manager that shares its per-player claims with other managers.
+     * Managers sharing a claim map resolve conflicts for players that are in a prompt of any of them.
+     *
+     * @param plugin The plugin hosting the router and ticker
+     * @param playerClaims The shared claim map, keyed by player UUID
+     */
+    public ChatSessionManager(@NotNull JavaPlugin plugin, @NotNull ConcurrentMap<UUID, Runnable> playerClaims) {
+        this(plugin, playerClaims, SessionScheduler.create());
+    }
+
+    /**
+     * Creates a session manager running its tasks on the given scheduler.
+     * Replays and headless tests pass a {@link ManualSessionScheduler} to control the order of tasks.
+     *
+     * @param plugin The plugin hosting the router and ticker
+     * @param playerClaims The shared claim map, keyed by player UUID
+     * @param scheduler The scheduler running session callbacks, timeouts and world operations
+     */
+    public ChatSessionManager(@NotNull JavaPlugin plugin, @NotNull ConcurrentMap<UUID, Runnable> playerClaims,
+                              @NotNull SessionScheduler scheduler) {
         this.plugin = plugin;
         this.messageFormatter = new MessageFormatter();
         this.playerFilterService = new PlayerFilterService();
+        this.countdownService = new CountdownService(messageFormatter);
+        this.chatIsolationService = new ChatIsolationService(messageFormatter);
         this.activeSessions = new ConcurrentHashMap<>();
+        this.routes = new ConcurrentHashMap<>();
+        this.playerClaims = playerClaims;
+        this.owners = ConcurrentHashMap.newKeySet();
+        this.hostListeners = new CopyOnWriteArrayList<>();
+        this.router = new SessionRouter(this);
+        this.scheduler = scheduler;
+        this.suggestionService = new SuggestionService(scheduler);
+        this.signPlacementService = new SignPlacementService(scheduler,
+                plugin.getDataFolder().toPath().resolve("mcchatsetup-signs.journal"));
+        this.deferredSessionService = new DeferredSessionService(this,
+                plugin.getDataFolder().toPath().resolve("mcchatsetup-deferred.txt"));
+        this.owners.add(plugin);
     }
 
     /**
      * Starts a new chat session.
      *
      * @param session The chat session to start
+     * @return The ID of the started session, or null if no player could join it
      * @throws IllegalStateException if no players are added to the session
      */
-    public void startSession(@NotNull ChatSession session) {
+    public @Nullable UUID startSession(@NotNull ChatSession session) {
         if (session.isEmpty()) {
             throw new IllegalStateException("No players added to ChatSession");
         }
 
+        JavaPlugin owner = session.getOwner() != null ? session.getOwner() : plugin;
+        session.setOwner(owner);
+        trackOwner(owner);
+
         filterPlayersIfNeeded(session);
+        resolveConflicts(session);
 
         if (session.isEmpty()) {
-            session.getOnFail().run();
-            return;
+            runCallback(session, CallbackKind.FAIL, session.getOnFail());
+            return null;
         }
 
         session.getOnStart().run();
 
+        long startedAt = System.nanoTime();
         UUID sessionId = UUID.randomUUID();
-        Listener eventHandler = createEventHandler(session, sessionId);
-        plugin.getServer().getPluginManager().registerEvents(eventHandler, plugin);
+        InputHandler eventHandler = createEventHandler(session, sessionId);
 
-        handleSessionStart(session, eventHandler);
-        BukkitTask timeoutTask = createTimeoutTask(sessionId, session);
+        PollState poll = session.isCollectAll() ? new PollState(session.getPlayers().size(), session.getQuorum()) : null;
 
-        ActiveSession activeSession = new ActiveSession(session, eventHandler, timeoutTask);
+        ActiveSession activeSession = new ActiveSession(sessionId, session, eventHandler, startedAt,
+                startedAt + session.getTimeLimit().toNanos(), countdownService.start(session, startedAt), poll,
+                createChoiceButtons(session, sessionId, startedAt));
         activeSessions.put(sessionId, activeSession);
+        bindRoutes(activeSession);
+        ensureRunning();
+
+        SessionRecorder recorder = this.recorder;
+        if (recorder != null) recorder.record(SessionEventType.START, sessionId, null, joinPlayerIds(session));
+        handleSessionStart(activeSession);
+        if (ChatSessionStartEvent.hasListeners()) {
+            callEvent(new ChatSessionStartEvent(sessionId, session, session.getPlayers(), !Bukkit.isPrimaryThread()));
+        }
+        return sessionId;
     }
 
     /**
@@ -76,36 +211,435 @@ public final class ChatSessionManager {
      * @param sessionId The session ID
      * @return The created event handler
      */
-    private @NotNull Listener createEventHandler(@NotNull ChatSession session, @NotNull UUID sessionId) {
+    private @NotNull InputHandler createEventHandler(@NotNull ChatSession session, @NotNull UUID sessionId) {
         return switch (session.getInputType()) {
-            case CHAT -> new ChatEventHandler(plugin, this, session, sessionId);
-            case SIGN -> new SignInputHandler(plugin, this, session, sessionId);
+            case CHAT -> new ChatEventHandler(session.getOwner(), this, session, sessionId);
+            case SIGN -> new SignInputHandler(session.getOwner(), this, session, sessionId);
+            case ANVIL -> new AnvilInputHandler(session.getOwner(), this, session, sessionId);
+            case BOOK -> new BookInputHandler(session.getOwner(), this, session, sessionId);
         };
     }
 
     /**
-     * Handles session start based on input type.
+     * Creates the clickable answer buttons of a session, rendering their labels once.
+     * The buttons expire shortly after the initial deadline; the ticker re-sends them when idle resets or
+     * extensions move the deadline further. Clicks after the session ended are ignored.
      *
      * @param session The chat session
-     * @param eventHandler The event handler
+     * @param sessionId The session ID
+     * @param startedAt The start time of the session in nanoseconds
+     * @return The buttons, or null if the session offers no choices or does not take chat input
+     */
+    private @Nullable ChoiceButtons createChoiceButtons(@NotNull ChatSession session, @NotNull UUID sessionId, long startedAt) {
+        List<Choice> choices = session.getChoices();
+        if (choices == null || choices.isEmpty() || session.getInputType() != InputType.CHAT) return null;
+
+        List<Component> labels = new ArrayList<>(choices.size());
+        for (Choice choice : choices) labels.add(messageFormatter.formatMessage(choice.label()));
+        return new ChoiceButtons(sessionId, List.copyOf(choices), labels, session.getTimeLimit().plus(CHOICE_GRACE), startedAt);
+    }
+
+    /**
+     * Re-sends the answer buttons of a session whose deadline moved past their lifetime.
+     *
+     * @param activeSession The session
+     * @param choices The buttons of the session
+     * @param now The current time in nanoseconds
      */
-    private void handleSessionStart(@NotNull ChatSession session, @NotNull Listener eventHandler) {
+    private void renewChoices(@NotNull ActiveSession activeSession, @NotNull ChoiceButtons choices, long now) {
+        choices.renew(Duration.ofNanos(activeSession.getDeadline() - now).plus(CHOICE_GRACE), now);
+        activeSession.getSession().getPlayers().forEach(player -> player.sendMessage(choices.render(player, this::submitChoice)));
+    }
+
+    /**
+     * Handles session start based on input type.
+     *
+     * @param activeSession The started session
+     */
+    private void handleSessionStart(@NotNull ActiveSession activeSession) {
+        ChatSession session = activeSession.getSession();
+        InputHandler eventHandler = activeSession.getEventHandler();
         switch (session.getInputType()) {
-            case CHAT -> sendMessageToPlayers(session);
+            case CHAT -> {
+                sendMessageToPlayers(session);
+                ChoiceButtons choices = activeSession.getChoices();
+                if (choices != null) session.getPlayers().forEach(player -> player.sendMessage(choices.render(player, this::submitChoice)));
+            }
             case SIGN -> {
                 if (eventHandler instanceof SignInputHandler signHandler) signHandler.openSignForPlayers();
             }
+            case ANVIL -> {
+                sendMessageToPlayers(session);
+                if (eventHandler instanceof AnvilInputHandler anvilHandler) anvilHandler.openAnvilForPlayers();
+            }
+            case BOOK -> {
+                sendMessageToPlayers(session);
+                if (eventHandler instanceof BookInputHandler bookHandler) bookHandler.giveBookToPlayers();
+            }
         }
     }
 
     /**
-     * Ends an active chat session and cleans up resources.
+     * Ends an active chat session and cleans up resources without running any callback.
      *
      * @param sessionId The session ID to end
+     * @return true if the session was active
+     */
+    public boolean endSession(@NotNull UUID sessionId) {
+        if (!claimCompletion(sessionId)) return false;
+
+        ActiveSession activeSession = activeSessions.remove(sessionId);
+        if (activeSession == null) return false;
+
+        cleanup(activeSession);
+        notifyEnd(activeSession, SessionOutcome.ABORTED);
+        return true;
+    }
+
+    /**
+     * Ends an active chat session and runs its success or failure callback.
+     * Callbacks run on the thread owning a remaining participant, or on the global thread if none is online.
+     *
+     * @param sessionId The session ID to complete
+     * @param outcome The outcome of the session
+     */
+    public void completeSession(@NotNull UUID sessionId, @NotNull SessionOutcome outcome) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null || !claimCompletion(sessionId)) return;
+
+        if (outcome == SessionOutcome.TIMEOUT) record(SessionEventType.TIMEOUT, sessionId, null, null);
+        runForParticipant(activeSession.getSession(), () -> finishSession(sessionId, outcome));
+    }
+
+    /**
+     * Atomically marks a session as completing and detaches its players.
+     * Only the first caller wins, so concurrent input, timeouts and quits complete a session exactly once.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID to claim
+     * @return true if the caller is responsible for finishing the session
      */
-    public void endSession(@NotNull UUID sessionId) {
+    public boolean claimCompletion(@NotNull UUID sessionId) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null || !activeSession.getCompleting().compareAndSet(false, true)) return false;
+
+        unbindRoutes(activeSession);
+        return true;
+    }
+
+    /**
+     * Removes a claimed session, cleans up its resources and runs its success or failure callback.
+     * Sessions left with the back or skip keyword run their back or skip callback instead, if set.
+     * Collect-all sessions first receive their result, and count as successful when their quorum was reached.
+     * Must run on the thread owning a participant, or on the global thread if none is online,
+     * after a successful {@link #claimCompletion(UUID)}.
+     *
+     * @param sessionId The session ID to finish
+     * @param outcome The outcome of the session
+     */
+    public void finishSession(@NotNull UUID sessionId, @NotNull SessionOutcome outcome) {
         ActiveSession activeSession = activeSessions.remove(sessionId);
-        if (activeSession != null) cleanup(activeSession);
+        if (activeSession == null) return;
+
+        cleanup(activeSession);
+        notifyEnd(activeSession, outcome);
+
+        ChatSession session = activeSession.getSession();
+        PollState poll = activeSession.getPoll();
+        boolean success = outcome.isSuccess();
+
+        Runnable onKeyword = switch (outcome) {
+            case BACK -> session.getOnBack();
+            case SKIPPED -> session.getOnSkip();
+            default -> null;
+        };
+
+        if (poll == null && onKeyword != null) {
+            onKeyword.run();
+            return;
+        }
+
+        if (poll != null) {
+            success = poll.isQuorumReached() && outcome != SessionOutcome.ABORTED && outcome != SessionOutcome.CANCELLED;
+            Consumer<PollResult> onResult = session.getOnResult();
+            if (onResult != null) onResult.accept(poll.toResult(outcome));
+        }
+
+        if (success) runCallback(session, CallbackKind.SUCCESS, session.getOnSuccess());
+        else runCallback(session, CallbackKind.FAIL, session.getOnFail());
+    }
+
+    /**
+     * Submits validated input from a participant.
+     * Fires a {@link ChatSessionInputEvent} if anyone listens; a cancelled event discards the input.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The player's input
+     * @return true if the input was handed to the session
+     */
+    public boolean submitInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input) {
+        return submitInput(sessionId, player, input, input);
+    }
+
+    /**
+     * Submits validated input from a participant.
+     * Fires a {@link ChatSessionInputEvent} if anyone listens; a cancelled event discards the input.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The normalized input
+     * @param rawInput The input as the player sent it
+     * @return true if the input was handed to the session
+     */
+    public boolean submitInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input, @NotNull String rawInput) {
+        if (ChatSessionInputEvent.hasListeners()) {
+            ChatSessionInputEvent event = new ChatSessionInputEvent(sessionId, player, input, rawInput, !Bukkit.isPrimaryThread());
+            callEvent(event);
+
+            if (event.isCancelled()) {
+                recordInput(sessionId, player, AuditOutcome.REJECTED, rawInput);
+                return false;
+            }
+        }
+
+        recordInput(sessionId, player, AuditOutcome.ACCEPTED, rawInput);
+        acceptInput(sessionId, player, input, rawInput);
+        return true;
+    }
+
+    /**
+     * Submits the value of a clicked answer button, skipping control keywords and the validator.
+     * Ignored unless the player is still answering the session.
+     *
+     * @param sessionId The session the button belongs to
+     * @param player The player who clicked
+     * @param value The value of the choice
+     */
+    private void submitChoice(@NotNull UUID sessionId, @NotNull Player player, @NotNull String value) {
+        PlayerRoute route = routes.get(player.getUniqueId());
+        if (route == null || !route.getSessionId().equals(sessionId)) return;
+
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return;
+
+        activeSession.touch(System.nanoTime());
+        record(SessionEventType.INPUT, sessionId, player, value);
+        submitInput(sessionId, player, value);
+    }
+
+    /**
+     * Handles valid input from a participant.
+     * Regular sessions complete with the input; collect-all sessions record it once per participant and
+     * complete when every participant answered or the quorum is reached.
+     * Callbacks run on the thread owning the player. Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The player's input
+     */
+    public void acceptInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input) {
+        acceptInput(sessionId, player, input, input);
+    }
+
+    /**
+     * Handles valid input from a participant.
+     * Regular sessions complete with the input; collect-all sessions record it once per participant and
+     * complete when every participant answered or the quorum is reached.
+     * Callbacks run on the thread owning the player. Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The normalized input
+     * @param rawInput The input as the player sent it
+     */
+    public void acceptInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input, @NotNull String rawInput) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return;
+
+        ChatSession session = activeSession.getSession();
+        Consumer<String> onInput = session.getOnInput();
+        BiConsumer<String, String> onRawInput = session.getOnRawInput();
+        PollState poll = activeSession.getPoll();
+
+        if (poll == null) {
+            if (!claimCompletion(sessionId)) return;
+
+            scheduler.runForPlayer(session.getOwner(), player, () -> {
+                try {
+                    record(SessionEventType.CALLBACK, sessionId, player, input);
+                    runCallback(session, CallbackKind.INPUT, () -> {
+                        if (onInput != null) onInput.accept(input);
+                        if (onRawInput != null) onRawInput.accept(input, rawInput);
+                    });
+                } finally {
+                    finishSession(sessionId, SessionOutcome.SUCCESS);
+                }
+            });
+            return;
+        }
+
+        if (!poll.record(player.getUniqueId(), input)) return;
+
+        unbindRoute(player.getUniqueId(), sessionId);
+        if (onInput != null || onRawInput != null) {
+            scheduler.runForPlayer(session.getOwner(), player, () -> {
+                record(SessionEventType.CALLBACK, sessionId, player, input);
+                runCallback(session, CallbackKind.INPUT, () -> {
+                    if (onInput != null) onInput.accept(input);
+                    if (onRawInput != null) onRawInput.accept(input, rawInput);
+                });
+            });
+        }
+
+        if (poll.isComplete() && claimCompletion(sessionId)) {
+            runForParticipant(session, () -> finishSession(sessionId, SessionOutcome.SUCCESS));
+        }
+    }
+
+    /**
+     * Handles an input that matches one of the session's control keywords.
+     * Cancel, back and skip take the player out of the session; help shows the prompt again.
+     * Every input passes here first, so this also resets the idle timeout of the session.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The player's input
+     * @return true if the input was a control keyword and must not be treated as an answer
+     */
+    public boolean handleControlInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return false;
+
+        activeSession.touch(System.nanoTime());
+        record(SessionEventType.INPUT, sessionId, player, input);
+
+        ControlKeyword keyword = activeSession.getKeywords().match(input, player.locale());
+        if (keyword == null) return false;
+
+        ChatSession session = activeSession.getSession();
+        switch (keyword) {
+            case CANCEL -> {
+                recordInput(sessionId, player, AuditOutcome.CANCELLED, input);
+                cancelInput(sessionId, player);
+            }
+            case BACK -> {
+                recordInput(sessionId, player, AuditOutcome.BACK, input);
+                endForPlayer(sessionId, player, SessionOutcome.BACK);
+            }
+            case SKIP -> {
+                recordInput(sessionId, player, AuditOutcome.SKIPPED, input);
+                endForPlayer(sessionId, player, SessionOutcome.SKIPPED);
+            }
+            case HELP -> {
+                recordInput(sessionId, player, AuditOutcome.HELP, input);
+                if (session.getInputType() != InputType.SIGN) player.sendMessage(messageFormatter.formatSessionMessage(session, player.locale()));
+                if (activeSession.getChoices() != null) player.sendMessage(activeSession.getChoices().render(player, this::submitChoice));
+
+                Runnable onHelp = session.getOnHelp();
+                if (onHelp != null) scheduler.runForPlayer(session.getOwner(), player, onHelp);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Handles a participant typing the cancel command.
+     * Regular sessions are cancelled; in collect-all sessions only the participant leaves without answering.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who cancelled
+     */
+    public void cancelInput(@NotNull UUID sessionId, @NotNull Player player) {
+        endForPlayer(sessionId, player, SessionOutcome.CANCELLED);
+    }
+
+    /**
+     * Removes a participant whose input screen could not be opened, leaving the session running for
+     * the other participants. Must run on the participant's thread.
+     *
+     * @param sessionId The session ID
+     * @param player The participant
+     */
+    public void failPlayer(@NotNull UUID sessionId, @NotNull Player player) {
+        detachPlayer(sessionId, player, SessionOutcome.FAILED);
+    }
+
+    /**
+     * Handles a participant exceeding the input rate limit of a session configured to fail on abuse.
+     * Regular sessions fail; in collect-all sessions only the participant is removed.
+     * Safe to call from the async chat thread.
+     *
+     * @param sessionId The session ID
+     * @param player The player who flooded the session
+     */
+    public void failFloodedInput(@NotNull UUID sessionId, @NotNull Player player) {
+        endForPlayer(sessionId, player, SessionOutcome.RATE_LIMITED);
+    }
+
+    /**
+     * Records an input that was discarded by a rate limit.
+     */
+    public void recordDroppedInput() {
+        droppedInputs.increment();
+    }
+
+    /**
+     * Gets the number of inputs discarded by rate limits since startup.
+     *
+     * @return The number of dropped inputs
+     */
+    public long getDroppedInputCount() {
+        return droppedInputs.sum();
+    }
+
+    /**
+     * Gives a session more time without rescheduling anything; the timeout ticker reads the new deadline.
+     * The deadline never moves past the maximum lifetime of the session.
+     *
+     * @param sessionId The session ID
+     * @param extra The time to add
+     * @return true if the session is active
+     * @throws IllegalArgumentException if the extra time is negative
+     */
+    public boolean extendSession(@NotNull UUID sessionId, @NotNull Duration extra) {
+        if (extra.isNegative()) throw new IllegalArgumentException("Session extension cannot be negative");
+
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null || activeSession.getCompleting().get()) return false;
+
+        activeSession.extend(extra.toNanos());
+        return true;
+    }
+
+    /**
+     * Gets the remaining time of a session.
+     *
+     * @param sessionId The session ID
+     * @return The remaining time, or zero if the session is not active
+     */
+    public @NotNull Duration getRemainingTime(@NotNull UUID sessionId) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return Duration.ZERO;
+
+        return Duration.ofNanos(Math.max(0L, activeSession.getDeadline() - System.nanoTime()));
+    }
+
+    /**
+     * Gets the live tallies of a collect-all session.
+     *
+     * @param sessionId The session ID
+     * @return The number of participants per answer, empty if the session is not an active collect-all session
+     */
+    public @NotNull Map<String, Long> getPollTallies(@NotNull UUID sessionId) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null || activeSession.getPoll() == null) return Map.of();
+        return activeSession.getPoll().getTallies();
     }
 
     /**
@@ -129,6 +663,16 @@ public final class ChatSessionManager {
         return activeSessions.containsKey(sessionId);
     }
 
+    /**
+     * Checks if a player is currently answering a prompt of this or any manager sharing its claims.
+     *
+     * @param player The player to check
+     * @return true if the player is claimed by an active session
+     */
+    public boolean isInSession(@NotNull Player player) {
+        return playerClaims.containsKey(player.getUniqueId());
+    }
+
     /**
      * Gets the number of active sessions.
      *
@@ -138,6 +682,20 @@ public final class ChatSessionManager {
         return activeSessions.size();
     }
 
+    /**
+     * Gets the number of active sessions owned by a plugin.
+     *
+     * @param owner The owning plugin
+     * @return The number of active sessions owned by the plugin
+     */
+    public int getActiveSessionCount(@NotNull Plugin owner) {
+        int count = 0;
+        for (ActiveSession activeSession : activeSessions.values()) {
+            if (owner.equals(activeSession.getSession().getOwner())) count++;
+        }
+        return count;
+    }
+
     /**
      * Ends all active sessions.
      */
@@ -145,6 +703,17 @@ public final class ChatSessionManager {
         activeSessions.keySet().forEach(this::endSession);
     }
 
+    /**
+     * Ends all active sessions owned by a plugin.
+     *
+     * @param owner The owning plugin
+     */
+    public void endAllSessions(@NotNull Plugin owner) {
+        for (ActiveSession activeSession : activeSessions.values()) {
+            if (owner.equals(activeSession.getSession().getOwner())) endSession(activeSession.getSessionId());
+        }
+    }
+
     /**
      * Gets an active session by ID.
      *
@@ -155,6 +724,395 @@ public final class ChatSessionManager {
         return activeSessions.get(sessionId);
     }
 
+    /**
+     * Gets a live view of the active sessions.
+     *
+     * @return The active sessions
+     */
+    public @NotNull Collection<ActiveSession> getActiveSessions() {
+        return Collections.unmodifiableCollection(activeSessions.values());
+    }
+
+    /**
+     * Gets the routing entry of a player.
+     *
+     * @param playerId The player UUID
+     * @return The routing entry, or null if the player is not in a session
+     */
+    public @Nullable PlayerRoute getRoute(@NotNull UUID playerId) {
+        return routes.get(playerId);
+    }
+
+    /**
+     * Gets the scheduler used for session callbacks, timeouts and world operations.
+     *
+     * @return The session scheduler
+     */
+    public @NotNull SessionScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the service placing and restoring temporary input signs.
+     *
+     * @return The sign placement service
+     */
+    public @NotNull SignPlacementService getSignPlacementService() {
+        return signPlacementService;
+    }
+
+    /**
+     * Gets the service holding back chat from isolated session participants.
+     *
+     * @return The chat isolation service
+     */
+    public @NotNull ChatIsolationService getChatIsolationService() {
+        return chatIsolationService;
+    }
+
+    /**
+     * Gets the plugin currently hosting the router and ticker.
+     *
+     * @return The host plugin
+     */
+    public @NotNull JavaPlugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Registers a plugin as a user of this manager, making it eligible to host the router
+     * if the current host is disabled.
+     *
+     * @param owner The plugin using this manager
+     */
+    public void trackOwner(@NotNull JavaPlugin owner) {
+        owners.add(owner);
+    }
+
+    /**
+     * Registers a callback that is notified whenever the router and ticker move to a new host plugin.
+     *
+     * @param listener The callback receiving the new host
+     */
+    public void addHostListener(@NotNull Consumer<JavaPlugin> listener) {
+        hostListeners.add(listener);
+    }
+
+    /**
+     * Takes a quitting player out of their session.
+     *
+     * @param player The player that quit
+     */
+    public void handleQuit(@NotNull Player player) {
+        signPlacementService.forget(player.getUniqueId());
+
+        PlayerRoute route = routes.get(player.getUniqueId());
+        if (route == null) return;
+
+        record(SessionEventType.QUIT, route.getSessionId(), player, null);
+        ActiveSession activeSession = activeSessions.get(route.getSessionId());
+        HandoffService handoff = handoffService;
+        if (handoff != null && activeSession != null && handoff.handOff(activeSession, player)) {
+            unbindRoute(player.getUniqueId(), route.getSessionId());
+            activeSession.getEventHandler().release(player);
+            if (activeSession.getCountdown() != null) countdownService.hide(activeSession.getCountdown(), player);
+            return;
+        }
+
+        detachPlayer(route.getSessionId(), player, SessionOutcome.QUIT);
+    }
+
+    /**
+     * Starts prompts handed off to or deferred for a joining player, and gives back items held by
+     * session books left in the inventory by a crash.
+     *
+     * @param player The player that joined
+     */
+    public void handleJoin(@NotNull Player player) {
+        BookInputHandler.restoreInventory(player);
+
+        HandoffService handoff = handoffService;
+        if (handoff != null) handoff.handleJoin(player);
+        deferredSessionService.handleJoin(player);
+    }
+
+    /**
+     * Starts a session when a player joins, or right away if the player is online.
+     * The prompt is kept in memory; a prompt already waiting for the player is replaced.
+     *
+     * @param playerId The UUID of the player
+     * @param session The session to start, without players
+     * @param expiry How long the prompt waits for the player
+     */
+    public void deferSession(@NotNull UUID playerId, @NotNull ChatSession session, @NotNull Duration expiry) {
+        deferredSessionService.defer(playerId, session, expiry);
+        startDeferredIfOnline(playerId);
+    }
+
+    /**
+     * Starts a keyed prompt when a player joins, or right away if the player is online.
+     * The prompt survives restarts; its session is built by the restorer the owning plugin set with
+     * {@link #setDeferredRestorer(JavaPlugin, BiFunction)}.
+     *
+     * @param owner The plugin deferring the prompt
+     * @param playerId The UUID of the player
+     * @param key The key passed to the restorer
+     * @param expiry How long the prompt waits for the player
+     */
+    public void deferSession(@NotNull JavaPlugin owner, @NotNull UUID playerId, @NotNull String key, @NotNull Duration expiry) {
+        trackOwner(owner);
+        deferredSessionService.defer(owner, playerId, key, expiry);
+        startDeferredIfOnline(playerId);
+    }
+
+    /**
+     * Removes the prompt waiting for a player.
+     *
+     * @param playerId The UUID of the player
+     * @return true if a prompt was waiting
+     */
+    public boolean cancelDeferred(@NotNull UUID playerId) {
+        return deferredSessionService.cancel(playerId);
+    }
+
+    /**
+     * Sets how the keyed deferred prompts of a plugin are rebuilt, including the prompts persisted by earlier runs.
+     * Call once when the plugin enables.
+     *
+     * @param owner The plugin deferring the prompts
+     * @param restorer Builds the session for a player UUID and key, or returns null to drop the prompt
+     */
+    public void setDeferredRestorer(@NotNull JavaPlugin owner, @NotNull BiFunction<UUID, String, ChatSession> restorer) {
+        trackOwner(owner);
+        deferredSessionService.setRestorer(owner, restorer);
+        ensureRunning();
+    }
+
+    private void startDeferredIfOnline(@NotNull UUID playerId) {
+        ensureRunning();
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) deferredSessionService.handleJoin(player);
+    }
+
+    /**
+     * Lets prompts built from templates follow players across the servers of a network.
+     * When a player leaves mid-prompt, the session waits for its time limit while the server the player
+     * joins runs the same template; its result completes the local session and runs its callbacks.
+     *
+     * @param transport The transport connecting the servers
+     * @param templates Looks up templates by ID, usually {@code registry::get}
+     */
+    public void enableHandoff(@NotNull SessionTransport transport, @NotNull Function<String, PromptTemplate> templates) {
+        handoffService = new HandoffService(this, transport, templates);
+        ensureRunning();
+    }
+
+    /**
+     * Completes a session that was handed off to another server.
+     *
+     * @param result The result sent by the other server
+     */
+    public void completeRemote(@NotNull SessionResult result) {
+        ActiveSession activeSession = activeSessions.get(result.sessionId());
+        if (activeSession == null || !claimCompletion(result.sessionId())) return;
+
+        ChatSession session = activeSession.getSession();
+        Consumer<String> onInput = session.getOnInput();
+        runForParticipant(session, () -> {
+            if (!result.outcome().isSuccess() || result.input() == null) {
+                finishSession(result.sessionId(), result.outcome());
+                return;
+            }
+
+            try {
+                if (onInput != null) runCallback(session, CallbackKind.INPUT, () -> onInput.accept(result.input()));
+            } finally {
+                finishSession(result.sessionId(), SessionOutcome.SUCCESS);
+            }
+        });
+    }
+
+    /**
+     * Ends the sessions owned by a disabled plugin and moves the router to another plugin
+     * if the disabled plugin was hosting it.
+     *
+     * @param disabled The plugin being disabled
+     */
+    public void handlePluginDisable(@NotNull Plugin disabled) {
+        endAllSessions(disabled);
+        owners.remove(disabled);
+        deferredSessionService.handlePluginDisable(disabled);
+
+        if (!disabled.equals(plugin)) return;
+
+        JavaPlugin successor = owners.stream()
+                .filter(Plugin::isEnabled)
+                .findFirst()
+                .orElse(null);
+
+        synchronized (this) {
+            ticker = null;
+            routerRegistered = false;
+        }
+
+        if (successor == null) {
+            endAllSessions();
+            disableProfiling();
+            signPlacementService.close();
+            return;
+        }
+
+        plugin = successor;
+        if (!activeSessions.isEmpty()) ensureRunning();
+        hostListeners.forEach(listener -> listener.accept(successor));
+    }
+
+    /**
+     * Clears the cached prompt renders, for example after messages or translations were reloaded.
+     */
+    public void invalidateMessages() {
+        messageFormatter.invalidate();
+    }
+
+    /**
+     * Sets the audit sink that receives a record for every submitted input.
+     *
+     * @param auditSink The audit sink, or null to disable auditing
+     */
+    public void setAuditSink(@Nullable AuditLogWriter auditSink) {
+        this.auditSink = auditSink;
+    }
+
+    /**
+     * Gets the audit sink that receives a record for every submitted input.
+     *
+     * @return The audit sink, or null if auditing is disabled
+     */
+    public @Nullable AuditLogWriter getAuditSink() {
+        return auditSink;
+    }
+
+    /**
+     * Sets the recorder capturing session events, for reproducing races offline.
+     *
+     * @param recorder The recorder, or null to stop recording
+     */
+    public void setRecorder(@Nullable SessionRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Gets the recorder capturing session events.
+     *
+     * @return The recorder, or null if recording is disabled
+     */
+    public @Nullable SessionRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Starts timing a sample of session callbacks and registers the {@code /chatsetup} admin command
+     * reporting live sessions and the slowest recent callbacks. Does nothing if profiling is already enabled.
+     *
+     * @param sampleEvery Times one in this many callbacks
+     */
+    public synchronized void enableProfiling(int sampleEvery) {
+        if (profiler != null) return;
+
+        profiler = new CallbackProfiler(256, sampleEvery);
+        command = new ChatSetupCommand(this, profiler);
+        plugin.getServer().getCommandMap().register("mcchatsetup", command);
+    }
+
+    /**
+     * Stops timing callbacks and unregisters the {@code /chatsetup} command, once no plugin is left to host the manager.
+     */
+    private synchronized void disableProfiling() {
+        if (command == null) return;
+
+        CommandMap commandMap = plugin.getServer().getCommandMap();
+        commandMap.getKnownCommands().values().removeIf(known -> known == command);
+        command.unregister(commandMap);
+        command = null;
+        profiler = null;
+    }
+
+    /**
+     * Gets the profiler timing session callbacks.
+     *
+     * @return The profiler, or null if profiling is disabled
+     */
+    public @Nullable CallbackProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Runs the session validator on an input.
+     * Rejections are recorded in the audit sink, and validators compiled from
+     * {@link ValidationRules} also send the rejection reason to the player.
+     *
+     * @param sessionId The session the input was submitted to
+     * @param player The player who submitted the input
+     * @param input The input to validate
+     * @return true if the input is valid or the session has no validator
+     */
+    public boolean validateInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input) {
+        return validateInput(sessionId, player, input, input);
+    }
+
+    /**
+     * Validates normalized input of a participant, recording rejections with the raw input.
+     *
+     * @param sessionId The session ID
+     * @param player The player who provided the input
+     * @param input The normalized input
+     * @param rawInput The input as the player sent it
+     * @return true if the input passes the validator of the session
+     */
+    public boolean validateInput(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input, @NotNull String rawInput) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return false;
+
+        Predicate<String> validator = activeSession.getSession().getValidator();
+        if (validator == null) return true;
+
+        if (validator instanceof CompiledValidator compiled) {
+            String reason = compiled.reject(input);
+            if (reason == null) return true;
+
+            player.sendMessage(messageFormatter.formatMessage(reason));
+        } else if (validator.test(input)) {
+            return true;
+        }
+
+        record(SessionEventType.REJECT, sessionId, player, input);
+        recordInput(sessionId, player, AuditOutcome.REJECTED, rawInput);
+        return false;
+    }
+
+    /**
+     * Records a submitted input in the audit sink, if one is configured.
+     * Safe to call from the async chat thread; the cost is a single enqueue.
+     *
+     * @param sessionId The session the input was submitted to
+     * @param player The player who submitted the input
+     * @param outcome The outcome of the submission
+     * @param input The raw input
+     */
+    public void recordInput(@NotNull UUID sessionId, @NotNull Player player,
+                            @NotNull AuditOutcome outcome, @NotNull String input) {
+        AuditLogWriter sink = auditSink;
+        if (sink == null) return;
+
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return;
+
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - activeSession.getStartedAt());
+        sink.submit(new AuditRecord(System.currentTimeMillis(), sessionId, player.getUniqueId(),
+                activeSession.getSession().getInputType(), outcome, latency, input));
+    }
+
     /**
      * Filters players in the session if a listener collection is provided.
      *
@@ -172,56 +1130,345 @@ public final class ChatSessionManager {
     }
 
     /**
-     * Sends the formatted message to all players in the session.
+     * Applies the session conflict policy to players that are already in another prompt.
      *
-     * @param session The session containing the players and message
+     * @param session The session about to start
      */
-    private void sendMessageToPlayers(@NotNull ChatSession session) {
-        Component component = messageFormatter.formatSessionMessage(session);
+    private void resolveConflicts(@NotNull ChatSession session) {
         for (Player player : session.getPlayers()) {
-            player.sendMessage(component);
+            Runnable existing = playerClaims.get(player.getUniqueId());
+            if (existing == null) continue;
+
+            if (session.getConflictPolicy() == ConflictPolicy.REJECT) session.removePlayer(player);
+            else existing.run();
         }
     }
 
     /**
-     * Creates a timeout task for the session.
+     * Routes the players of a session to its handler and claims them globally.
      *
+     * @param activeSession The session to bind
+     */
+    private void bindRoutes(@NotNull ActiveSession activeSession) {
+        UUID sessionId = activeSession.getSessionId();
+        ChatSession session = activeSession.getSession();
+
+        for (Player player : session.getPlayers()) {
+            UUID playerId = player.getUniqueId();
+            PlayerRoute route = new PlayerRoute(sessionId, activeSession.getEventHandler(),
+                    () -> detachPlayer(sessionId, player, SessionOutcome.REPLACED));
+
+            Runnable previous = playerClaims.put(playerId, route.getEvictor());
+            if (previous != null) previous.run();
+
+            routes.put(playerId, route);
+            chatIsolationService.isolate(playerId, session.getChatIsolation(), session.getChatBufferSize());
+
+            List<SuggestionProvider> providers = session.getSuggestionProviders();
+            if (providers != null && !providers.isEmpty() && session.getInputType() == InputType.CHAT) {
+                suggestionService.bind(session.getOwner(), sessionId, player, providers);
+            }
+        }
+    }
+
+    /**
+     * Removes the routes and claims of every player still routed to a session.
+     *
+     * @param activeSession The session to unbind
+     */
+    private void unbindRoutes(@NotNull ActiveSession activeSession) {
+        for (Player player : activeSession.getSession().getPlayers()) {
+            unbindRoute(player.getUniqueId(), activeSession.getSessionId());
+        }
+    }
+
+    /**
+     * Removes a player's route and claim if they still point at the given session,
+     * releasing any chat held back from them.
+     *
+     * @param playerId The player UUID
      * @param sessionId The session ID
-     * @param session The session configuration
-     * @return The created BukkitTask
-     */
-    private @NotNull BukkitTask createTimeoutTask(@NotNull UUID sessionId, @NotNull ChatSession session) {
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                endSession(sessionId);
-                session.getOnFail().run();
+     */
+    private void unbindRoute(@NotNull UUID playerId, @NotNull UUID sessionId) {
+        PlayerRoute route = routes.get(playerId);
+        if (route == null || !route.getSessionId().equals(sessionId)) return;
+
+        if (routes.remove(playerId, route)) {
+            chatIsolationService.release(playerId);
+            suggestionService.release(plugin, playerId, sessionId);
+        }
+        playerClaims.remove(playerId, route.getEvictor());
+    }
+
+    /**
+     * Ends a regular session because of a participant, or removes only that participant from a collect-all session.
+     *
+     * @param sessionId The session ID
+     * @param player The participant
+     * @param outcome The outcome of the session or participant
+     */
+    private void endForPlayer(@NotNull UUID sessionId, @NotNull Player player, @NotNull SessionOutcome outcome) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return;
+
+        JavaPlugin owner = activeSession.getSession().getOwner();
+        if (activeSession.getPoll() != null) {
+            scheduler.runForPlayer(owner, player, () -> detachPlayer(sessionId, player, outcome));
+            return;
+        }
+
+        if (!claimCompletion(sessionId)) return;
+        scheduler.runForPlayer(owner, player, () -> finishSession(sessionId, outcome));
+    }
+
+    /**
+     * Runs a session task on the thread owning a participant that is still online, where callbacks can
+     * message or move players, or on the global thread if no participant is online.
+     *
+     * @param session The session
+     * @param task The task
+     */
+    private void runForParticipant(@NotNull ChatSession session, @NotNull Runnable task) {
+        for (Player player : session.getPlayers()) {
+            if (!player.isOnline()) continue;
+
+            scheduler.runForPlayer(session.getOwner(), player, task);
+            return;
+        }
+
+        scheduler.runGlobal(session.getOwner(), task);
+    }
+
+    /**
+     * Takes a single player out of a session, completing the session once nobody is left
+     * or, for collect-all sessions, once nobody is left to answer.
+     *
+     * @param sessionId The session ID
+     * @param player The player to remove
+     * @param outcome The outcome used if the session ends because it became empty
+     */
+    private void detachPlayer(@NotNull UUID sessionId, @NotNull Player player, @NotNull SessionOutcome outcome) {
+        ActiveSession activeSession = activeSessions.get(sessionId);
+        if (activeSession == null) return;
+
+        unbindRoute(player.getUniqueId(), sessionId);
+        activeSession.getSession().removePlayer(player);
+        activeSession.getEventHandler().release(player);
+        if (activeSession.getCountdown() != null) countdownService.hide(activeSession.getCountdown(), player);
+
+        PollState poll = activeSession.getPoll();
+        if (poll != null) {
+            poll.abstain(player.getUniqueId());
+            if (poll.isComplete()) {
+                completeSession(sessionId, poll.isQuorumReached() ? SessionOutcome.SUCCESS : outcome);
+                return;
             }
-        }.runTaskLater(plugin, session.getTimeLimit().toSeconds() * 20L);
+        }
+
+        if (activeSession.getSession().isEmpty()) completeSession(sessionId, outcome);
     }
 
     /**
-     * Cleans up resources for an active session.
+     * Registers the router and starts the timeout ticker under the host plugin if they are not running.
+     */
+    private synchronized void ensureRunning() {
+        if (!routerRegistered) {
+            plugin.getServer().getPluginManager().registerEvents(router, plugin);
+            routerRegistered = true;
+        }
+
+        if (ticker == null) ticker = scheduler.runGlobalTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Cancels the ticker while no session is active; it is restarted by the next session.
+     */
+    private synchronized void stopIfIdle() {
+        if (ticker == null || !activeSessions.isEmpty()) return;
+
+        ticker.cancel();
+        ticker = null;
+    }
+
+    /**
+     * Completes every session whose deadline has passed and advances live countdowns.
+     * Runs once per tick on the global thread for all sessions of this manager.
+     */
+    private void tick() {
+        if (activeSessions.isEmpty()) {
+            stopIfIdle();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (++tickCount % 20 == 0) suggestionService.refreshExpired(plugin);
+
+        for (ActiveSession activeSession : activeSessions.values()) {
+            if (now - activeSession.getDeadline() >= 0) {
+                completeSession(activeSession.getSessionId(), SessionOutcome.TIMEOUT);
+                continue;
+            }
+
+            if (activeSession.getCountdown() != null) countdownService.update(activeSession.getCountdown(), activeSession.getDeadline(), now);
+
+            ChoiceButtons choices = activeSession.getChoices();
+            if (choices != null && activeSession.getDeadline() - choices.getExpiresAt() > 0
+                    && !activeSession.getCompleting().get()) renewChoices(activeSession, choices, now);
+        }
+    }
+
+    /**
+     * Runs a session callback, timing it if profiling is enabled.
      *
-     * @param activeSession The active session to clean up
+     * @param session The session owning the callback
+     * @param kind The callback that runs
+     * @param callback The callback
      */
-    private void cleanup(@NotNull ActiveSession activeSession) {
-        if (!activeSession.timeoutTask().isCancelled()) {
-            activeSession.timeoutTask().cancel();
+    private void runCallback(@NotNull ChatSession session, @NotNull CallbackKind kind, @NotNull Runnable callback) {
+        CallbackProfiler profiler = this.profiler;
+        if (profiler == null) callback.run();
+        else profiler.run(session.getOwner().getName(), kind, callback);
+    }
+
+    /**
+     * Records a session event if a recorder is set. Costs a single volatile read otherwise.
+     *
+     * @param type The event type
+     * @param sessionId The session of the event
+     * @param player The player of the event, or null for session-wide events
+     * @param payload The payload of the event, or null if it has none
+     */
+    private void record(@NotNull SessionEventType type, @NotNull UUID sessionId, @Nullable Player player, @Nullable String payload) {
+        SessionRecorder recorder = this.recorder;
+        if (recorder != null) recorder.record(type, sessionId, player != null ? player.getUniqueId() : null, payload);
+    }
+
+    private static @NotNull String joinPlayerIds(@NotNull ChatSession session) {
+        StringBuilder playerIds = new StringBuilder(session.getPlayers().size() * 37);
+        for (Player player : session.getPlayers()) {
+            if (!playerIds.isEmpty()) playerIds.append(',');
+            playerIds.append(player.getUniqueId());
         }
+        return playerIds.toString();
+    }
+
+    /**
+     * Sends the formatted message to all players in the session.
+     *
+     * @param session The session containing the players and message
+     */
+    private void sendMessageToPlayers(@NotNull ChatSession session) {
+        messageFormatter.formatSessionMessage(session, session.getPlayers()).forEach(Player::sendMessage);
+    }
+
+    /**
+     * Runs the end action of a session and fires a {@link ChatSessionEndEvent} if anyone listens.
+     *
+     * @param activeSession The session that ended
+     * @param outcome The outcome of the session
+     */
+    private void notifyEnd(@NotNull ActiveSession activeSession, @NotNull SessionOutcome outcome) {
+        record(SessionEventType.END, activeSession.getSessionId(), null, outcome.name());
 
-        if (activeSession.eventHandler() instanceof SignInputHandler signHandler) {
-            signHandler.cleanup();
+        Consumer<SessionOutcome> onEnd = activeSession.getSession().getOnEnd();
+        if (onEnd != null) onEnd.accept(outcome);
+
+        if (!ChatSessionEndEvent.hasListeners()) return;
+
+        callEvent(new ChatSessionEndEvent(activeSession.getSessionId(), activeSession.getSession(), outcome,
+                !Bukkit.isPrimaryThread()));
+    }
+
+    /**
+     * Calls an event, logging listener failures instead of letting them break the session lifecycle.
+     *
+     * @param event The event to call
+     */
+    private void callEvent(@NotNull Event event) {
+        try {
+            plugin.getServer().getPluginManager().callEvent(event);
+        } catch (RuntimeException exception) {
+            plugin.getLogger().log(Level.WARNING, "Failed to call " + event.getEventName(), exception);
         }
+    }
 
-        HandlerList.unregisterAll(activeSession.eventHandler());
+    /**
+     * Cleans up resources for an active session.
+     *
+     * @param activeSession The active session to clean up
+     */
+    private void cleanup(@NotNull ActiveSession activeSession) {
+        unbindRoutes(activeSession);
+        activeSession.getEventHandler().cleanup();
+        if (activeSession.getCountdown() != null) countdownService.stop(activeSession.getCountdown());
+        if (activeSession.getChoices() != null) activeSession.getChoices().release();
     }
 
     /**
-     * Record representing an active session with all its components.
+     * Runtime state of an active session with all its components.
      */
-    public record ActiveSession(@NotNull ChatSession session,
-                                @NotNull Listener eventHandler,
-                                @NotNull BukkitTask timeoutTask) {
+    @Getter
+    public static final class ActiveSession {
+        private final UUID sessionId;
+        private final ChatSession session;
+        private final InputHandler eventHandler;
+        private final long startedAt;
+        private final CountdownService.Countdown countdown;
+        private final PollState poll;
+        private final KeywordMatcher keywords;
+        private final ChoiceButtons choices;
+        private final AtomicBoolean completing = new AtomicBoolean();
+        private final long idleNanos;
+        private final long maxDeadline;
+        private final boolean lifetimeCapped;
+        private volatile long deadline;
+
+        public ActiveSession(@NotNull UUID sessionId,
+                             @NotNull ChatSession session,
+                             @NotNull InputHandler eventHandler,
+                             long startedAt,
+                             long deadline,
+                             @Nullable CountdownService.Countdown countdown,
+                             @Nullable PollState poll,
+                             @Nullable ChoiceButtons choices) {
+            this.sessionId = sessionId;
+            this.session = session;
+            this.eventHandler = eventHandler;
+            this.startedAt = startedAt;
+            this.idleNanos = session.getIdleTimeout() != null ? session.getIdleTimeout().toNanos() : 0L;
+            this.lifetimeCapped = session.getMaxLifetime() != null;
+            this.maxDeadline = lifetimeCapped ? startedAt + session.getMaxLifetime().toNanos() : 0L;
+            this.deadline = cap(deadline);
+            this.countdown = countdown;
+            this.poll = poll;
+            this.choices = choices;
+            this.keywords = session.getControlKeywords() != null
+                    ? session.getControlKeywords()
+                    : KeywordMatcher.cancelOnly(session.getCancelCommand());
+        }
+
+        /**
+         * Pushes the deadline to the idle timeout after player activity. Never shortens the deadline.
+         *
+         * @param now The current time in nanoseconds
+         */
+        public synchronized void touch(long now) {
+            if (idleNanos > 0 && now + idleNanos - deadline > 0) deadline = cap(now + idleNanos);
+        }
+
+        /**
+         * Moves the deadline later, up to the maximum lifetime.
+         *
+         * @param nanos The time to add in nanoseconds
+         * @return The new deadline
+         */
+        public synchronized long extend(long nanos) {
+            deadline = cap(deadline + nanos);
+            return deadline;
+        }
+
+        private long cap(long deadline) {
+            return lifetimeCapped && deadline - maxDeadline > 0 ? maxDeadline : deadline;
+        }
     }
-}
\ No newline at end of file
+}
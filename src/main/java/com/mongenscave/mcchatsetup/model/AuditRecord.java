@@ -0,0 +1,27 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.AuditOutcome;
+import com.mongenscave.mcchatsetup.identifiers.InputType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Immutable record of a single input submitted to a chat session.
+ *
+ * @param timestamp The wall-clock time of the submission in epoch milliseconds
+ * @param sessionId The session the input was submitted to
+ * @param playerId The UUID of the player who submitted the input
+ * @param inputType The input type of the session
+ * @param outcome The outcome of the submission
+ * @param latencyMillis The time elapsed since the session started
+ * @param input The raw input as typed by the player
+ */
+public record AuditRecord(long timestamp,
+                          @NotNull UUID sessionId,
+                          @NotNull UUID playerId,
+                          @NotNull InputType inputType,
+                          @NotNull AuditOutcome outcome,
+                          long latencyMillis,
+                          @NotNull String input) {
+}
@@ -0,0 +1,15 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.CallbackKind;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Timing of one sampled session callback.
+ *
+ * @param owner The name of the plugin owning the session
+ * @param kind The callback that ran
+ * @param durationNanos How long the callback ran, in nanoseconds
+ * @param recordedAt When the callback finished, in epoch milliseconds
+ */
+public record CallbackSample(@NotNull String owner, @NotNull CallbackKind kind, long durationNanos, long recordedAt) {
+}
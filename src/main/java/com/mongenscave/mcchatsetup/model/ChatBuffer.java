@@ -0,0 +1,73 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.ChatIsolation;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring buffer of chat messages held back from an isolated session participant.
+ * When full, the oldest message is overwritten.
+ */
+public final class ChatBuffer {
+    private final Object[] entries;
+    @Getter private final ChatIsolation isolation;
+    private int head;
+    private int size;
+    private int received;
+
+    /**
+     * Creates a new chat buffer.
+     *
+     * @param isolation The isolation mode of the participant's session
+     * @param capacity The maximum number of messages kept
+     */
+    public ChatBuffer(@NotNull ChatIsolation isolation, int capacity) {
+        this.isolation = isolation;
+        this.entries = new Object[Math.max(1, capacity)];
+    }
+
+    /**
+     * Adds a message, overwriting the oldest one if the buffer is full.
+     *
+     * @param entry The held back message
+     */
+    public synchronized void add(@NotNull Object entry) {
+        received++;
+        entries[(head + size) % entries.length] = entry;
+
+        if (size < entries.length) size++;
+        else head = (head + 1) % entries.length;
+    }
+
+    /**
+     * Gets the total number of messages held back, including overwritten ones.
+     *
+     * @return The number of received messages
+     */
+    public synchronized int getReceivedCount() {
+        return received;
+    }
+
+    /**
+     * Removes and returns the kept messages from oldest to newest.
+     *
+     * @param <T> The entry type
+     * @return The kept messages
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> @NotNull List<T> drain() {
+        List<T> drained = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % entries.length;
+            drained.add((T) entries[index]);
+            entries[index] = null;
+        }
+
+        head = 0;
+        size = 0;
+        return drained;
+    }
+}
@@ -1,9 +1,17 @@
 package com.mongenscave.mcchatsetup.model;
 
+import com.mongenscave.mcchatsetup.identifiers.ChatIsolation;
+import com.mongenscave.mcchatsetup.identifiers.ConflictPolicy;
+import com.mongenscave.mcchatsetup.identifiers.CountdownDisplay;
 import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.keyword.KeywordMatcher;
+import com.mongenscave.mcchatsetup.normalization.InputNormalizer;
+import com.mongenscave.mcchatsetup.suggestion.SuggestionProvider;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,7 +19,11 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -22,15 +34,53 @@ import java.util.function.Predicate;
 public final class ChatSession {
     private final Set<Player> players = Collections.synchronizedSet(new HashSet<>());
     @Getter @Setter private String message = "";
+    @Getter @Setter private Map<Locale, String> localizedMessages = null;
+    @Getter @Setter private String translationKey = null;
     @Getter @Setter private Duration timeLimit = Duration.ofSeconds(30);
+    @Getter @Setter private Duration idleTimeout = null;
+    @Getter @Setter private Duration maxLifetime = null;
     @Getter @Setter private String cancelCommand = "cancel";
     @Getter @Setter private Collection<?> listenerCollection = null;
     @Getter @Setter private Runnable onSuccess = () -> {};
     @Getter @Setter private Runnable onFail = () -> {};
     @Getter @Setter private Runnable onStart = () -> {};
     @Getter @Setter private Consumer<String> onInput = null;
+    @Getter @Setter private BiConsumer<String, String> onRawInput = null;
+    @Getter @Setter private InputNormalizer normalizer = null;
     @Getter @Setter private Predicate<String> validator = null;
     @Getter @Setter private InputType inputType = InputType.CHAT;
+    @Getter @Setter private String anvilText = "Enter input";
+    @Getter @Setter private int bookLimit = 4096;
+    @Getter @Setter private ConflictPolicy conflictPolicy = ConflictPolicy.REPLACE;
+    @Getter @Setter private JavaPlugin owner = null;
+    @Getter @Setter private CountdownDisplay countdownDisplay = CountdownDisplay.NONE;
+    @Getter @Setter private String countdownFormat = "<yellow><time>s remaining";
+    @Getter @Setter private ChatIsolation chatIsolation = ChatIsolation.NONE;
+    @Getter @Setter private int chatBufferSize = 50;
+    @Getter @Setter private boolean collectAll = false;
+    @Getter @Setter private int quorum = 0;
+    @Getter @Setter private Consumer<PollResult> onResult = null;
+    @Getter @Setter private InputRateLimit rateLimit = null;
+    @Getter @Setter private KeywordMatcher controlKeywords = null;
+    @Getter @Setter private Runnable onBack = null;
+    @Getter @Setter private Runnable onSkip = null;
+    @Getter @Setter private Runnable onHelp = null;
+    @Getter @Setter private List<SuggestionProvider> suggestionProviders = null;
+    @Getter @Setter private List<Choice> choices = null;
+    @Getter @Setter private String templateId = null;
+    @Getter @Setter private List<String> stepAnswers = null;
+    @Getter @Setter private Consumer<SessionOutcome> onEnd = null;
+
+    /**
+     * Normalizes a raw input with the session normalizer.
+     *
+     * @param rawInput The input as the player sent it
+     * @return The normalized input, or the raw input if the session has no normalizer
+     */
+    public @NotNull String normalize(@NotNull String rawInput) {
+        InputNormalizer normalizer = this.normalizer;
+        return normalizer != null ? normalizer.apply(rawInput) : rawInput;
+    }
 
     @Contract(value = " -> new", pure = true)
     public @NotNull Set<Player> getPlayers() {
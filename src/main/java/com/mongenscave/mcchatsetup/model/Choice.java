@@ -0,0 +1,12 @@
+package com.mongenscave.mcchatsetup.model;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Answer offered as a clickable button below a chat prompt.
+ *
+ * @param value The input submitted when the button is clicked
+ * @param label The MiniMessage label of the button
+ */
+public record Choice(@NotNull String value, @NotNull String label) {
+}
@@ -0,0 +1,118 @@
+package com.mongenscave.mcchatsetup.model;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickCallback;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clickable answer buttons of a session.
+ * Every button is bound to one player and can be used once; its callback only holds the session ID
+ * through a shared reference that is cleared when the session ends, so callbacks still waiting for
+ * their lifetime to pass in the server's callback registry keep no session state alive. Buttons expire
+ * shortly after the session deadline; when the deadline moves past that, the session re-sends them
+ * with a renewed lifetime.
+ */
+public final class ChoiceButtons {
+    private final AtomicReference<UUID> target;
+    private final List<Choice> choices;
+    private final List<Component> labels;
+    private volatile ClickCallback.Options options;
+    private volatile long expiresAt;
+
+    /**
+     * Creates the buttons of a session.
+     *
+     * @param sessionId The session ID
+     * @param choices The offered choices
+     * @param labels The rendered label of each choice
+     * @param lifetime How long the buttons stay clickable, at least until the session deadline
+     * @param now The current time in nanoseconds
+     */
+    public ChoiceButtons(@NotNull UUID sessionId, @NotNull List<Choice> choices,
+                         @NotNull List<Component> labels, @NotNull Duration lifetime, long now) {
+        this.target = new AtomicReference<>(sessionId);
+        this.choices = choices;
+        this.labels = labels;
+        renew(lifetime, now);
+    }
+
+    /**
+     * Sets the lifetime of buttons rendered from now on. Buttons rendered earlier keep their lifetime.
+     *
+     * @param lifetime How long the buttons stay clickable
+     * @param now The current time in nanoseconds
+     */
+    public void renew(@NotNull Duration lifetime, long now) {
+        options = ClickCallback.Options.builder().uses(1).lifetime(lifetime).build();
+        expiresAt = now + lifetime.toNanos();
+    }
+
+    /**
+     * Gets when the most recently rendered buttons stop being clickable.
+     *
+     * @return The expiry in {@link System#nanoTime()} units
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Renders a row of buttons usable only by one player.
+     *
+     * @param player The player receiving the buttons
+     * @param listener The action receiving the clicked value
+     * @return The button row
+     */
+    public @NotNull Component render(@NotNull Player player, @NotNull Listener listener) {
+        UUID playerId = player.getUniqueId();
+        AtomicReference<UUID> target = this.target;
+        ClickCallback.Options options = this.options;
+        Component row = Component.empty();
+
+        for (int i = 0; i < choices.size(); i++) {
+            String value = choices.get(i).value();
+            ClickEvent click = ClickEvent.callback(audience -> {
+                UUID sessionId = target.get();
+                if (sessionId != null && audience instanceof Player clicker && clicker.getUniqueId().equals(playerId)) {
+                    listener.choose(sessionId, clicker, value);
+                }
+            }, options);
+
+            if (i > 0) row = row.append(Component.space());
+            row = row.append(labels.get(i).clickEvent(click).hoverEvent(HoverEvent.showText(Component.text(value))));
+        }
+
+        return row;
+    }
+
+    /**
+     * Detaches every button from the session, turning later clicks into no-ops.
+     */
+    public void release() {
+        target.set(null);
+    }
+
+    /**
+     * Receives clicked choices.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Handles a clicked choice.
+         *
+         * @param sessionId The session the button belongs to
+         * @param player The player who clicked
+         * @param value The value of the choice
+         */
+        void choose(@NotNull UUID sessionId, @NotNull Player player, @NotNull String value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.FloodAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player token bucket configuration for session input.
+ *
+ * @param burst The number of inputs allowed in quick succession
+ * @param perSecond The sustained number of inputs allowed per second
+ * @param action The action taken when the limit is exceeded
+ */
+public record InputRateLimit(int burst, double perSecond, @NotNull FloodAction action) {
+
+    public InputRateLimit {
+        if (burst < 1 || perSecond <= 0) {
+            throw new IllegalArgumentException("Input rate limit needs a burst of at least 1 and a positive rate");
+        }
+    }
+
+    /**
+     * Gets the time it takes to earn one token.
+     *
+     * @return The refill interval in nanoseconds
+     */
+    public long intervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+    }
+}
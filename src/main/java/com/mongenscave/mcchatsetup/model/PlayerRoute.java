@@ -0,0 +1,57 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.handler.InputHandler;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routing entry binding an online player to the session that currently receives their input.
+ * Also carries the player's lock-free input rate limiter state, so limiting costs no extra lookup.
+ */
+public final class PlayerRoute {
+    @Getter private final UUID sessionId;
+    @Getter private final InputHandler handler;
+    @Getter private final Runnable evictor;
+    @Getter private final AtomicBoolean delayedInputPending = new AtomicBoolean();
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    /**
+     * Creates a new routing entry.
+     *
+     * @param sessionId The session the player is routed to
+     * @param handler The input handler of that session
+     * @param evictor The callback that takes the player out of the session when a newer session claims them
+     */
+    public PlayerRoute(@NotNull UUID sessionId, @NotNull InputHandler handler, @NotNull Runnable evictor) {
+        this.sessionId = sessionId;
+        this.handler = handler;
+        this.evictor = evictor;
+    }
+
+    /**
+     * Takes one token from the player's bucket.
+     * Implemented as a generic cell rate algorithm over a single atomic timestamp, which is
+     * equivalent to a token bucket without a separate token count.
+     *
+     * @param limit The rate limit of the session
+     * @param now The current time in nanoseconds
+     * @return 0 if the input is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(@NotNull InputRateLimit limit, long now) {
+        long interval = limit.intervalNanos();
+        long tolerance = interval * (limit.burst() - 1);
+
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = arrival - now > 0 ? arrival : now;
+            long wait = base - tolerance - now;
+            if (wait > 0) return wait;
+
+            if (theoreticalArrival.compareAndSet(arrival, base + interval)) return 0L;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Final result of a collect-all session.
+ *
+ * @param answers The answer of each participant who answered
+ * @param tallies The number of participants per answer
+ * @param participants The number of participants at start
+ * @param outcome How the session ended
+ */
+public record PollResult(@NotNull Map<UUID, String> answers,
+                         @NotNull Map<String, Long> tallies,
+                         int participants,
+                         @NotNull SessionOutcome outcome) {
+}
@@ -0,0 +1,117 @@
+package com.mongenscave.mcchatsetup.model;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live state of a collect-all session.
+ * Answers are recorded once per participant from any thread, and tallies use striped
+ * counters so concurrent answers for the same choice do not contend. Each participant stops
+ * being pending exactly once, by answering or by leaving, however those race.
+ */
+public final class PollState {
+    private final ConcurrentMap<UUID, String> answers = new ConcurrentHashMap<>();
+    private final Set<UUID> settled = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, LongAdder> tallies = new ConcurrentHashMap<>();
+    private final AtomicInteger pending;
+    private final int participants;
+    private final int quorum;
+
+    /**
+     * Creates the state of a collect-all session.
+     *
+     * @param participants The number of participants at start
+     * @param quorum The number of answers that completes the session early, or 0 to wait for everyone
+     */
+    public PollState(int participants, int quorum) {
+        this.participants = participants;
+        this.quorum = quorum;
+        this.pending = new AtomicInteger(participants);
+    }
+
+    /**
+     * Records a participant's answer.
+     *
+     * @param playerId The participant UUID
+     * @param answer The answer
+     * @return true if this was the participant's first answer and they had not left
+     */
+    public boolean record(@NotNull UUID playerId, @NotNull String answer) {
+        if (!settled.add(playerId)) return false;
+
+        answers.put(playerId, answer);
+        tallies.computeIfAbsent(answer, ignored -> new LongAdder()).increment();
+        pending.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Marks a participant that left without answering as no longer pending.
+     * Does nothing for participants that already answered or left.
+     *
+     * @param playerId The participant UUID
+     */
+    public void abstain(@NotNull UUID playerId) {
+        if (settled.add(playerId)) pending.decrementAndGet();
+    }
+
+    /**
+     * Checks whether every remaining participant answered or the quorum was reached.
+     *
+     * @return true if the session can complete
+     */
+    public boolean isComplete() {
+        return pending.get() <= 0 || (quorum > 0 && answers.size() >= quorum);
+    }
+
+    /**
+     * Checks whether enough answers were collected for the session to count as successful.
+     * Without a quorum a single answer is enough.
+     *
+     * @return true if the quorum was reached
+     */
+    public boolean isQuorumReached() {
+        return quorum > 0 ? answers.size() >= quorum : !answers.isEmpty();
+    }
+
+    /**
+     * Gets the number of answers recorded so far.
+     *
+     * @return The answer count
+     */
+    public int getAnswerCount() {
+        return answers.size();
+    }
+
+    /**
+     * Gets a snapshot of the live tallies per answer.
+     *
+     * @return The answer counts
+     */
+    @Contract(value = " -> new", pure = true)
+    public @NotNull Map<String, Long> getTallies() {
+        Map<String, Long> snapshot = new HashMap<>();
+        tallies.forEach((answer, counter) -> snapshot.put(answer, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Creates the final result of the session.
+     *
+     * @param outcome The outcome of the session
+     * @return The poll result
+     */
+    public @NotNull PollResult toResult(@NotNull SessionOutcome outcome) {
+        return new PollResult(Map.copyOf(answers), Map.copyOf(getTallies()), participants, outcome);
+    }
+}
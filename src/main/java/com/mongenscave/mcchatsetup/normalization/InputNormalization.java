@@ -0,0 +1,118 @@
+package com.mongenscave.mcchatsetup.normalization;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Declarative normalization steps applied to session input before control keywords, validation and callbacks.
+ * Steps are compiled into an {@link InputNormalizer} that applies all of them in a single pass.
+ */
+public final class InputNormalization {
+    private boolean trim;
+    private boolean collapseWhitespace;
+    private boolean unicode;
+    private boolean stripFormatting;
+    private int maxLength = Integer.MAX_VALUE;
+
+    private InputNormalization() {
+    }
+
+    /**
+     * Creates an empty normalization that leaves input unchanged.
+     *
+     * @return A new normalization
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull InputNormalization create() {
+        return new InputNormalization();
+    }
+
+    /**
+     * Creates a normalization with the common steps: trim, collapse whitespace, NFKC and strip formatting.
+     *
+     * @return A new normalization
+     */
+    public static @NotNull InputNormalization standard() {
+        return create().trim().collapseWhitespace().nfkc().stripFormatting();
+    }
+
+    /**
+     * Loads normalization steps from a configuration section.
+     * Supported keys: {@code trim}, {@code collapse-whitespace}, {@code nfkc}, {@code strip-formatting}
+     * and {@code max-length}.
+     *
+     * @param section The configuration section
+     * @return The loaded normalization
+     */
+    public static @NotNull InputNormalization fromConfig(@NotNull ConfigurationSection section) {
+        InputNormalization normalization = create();
+        if (section.getBoolean("trim")) normalization.trim();
+        if (section.getBoolean("collapse-whitespace")) normalization.collapseWhitespace();
+        if (section.getBoolean("nfkc")) normalization.nfkc();
+        if (section.getBoolean("strip-formatting")) normalization.stripFormatting();
+        if (section.isInt("max-length")) normalization.maxLength(section.getInt("max-length"));
+        return normalization;
+    }
+
+    /**
+     * Removes leading and trailing whitespace.
+     *
+     * @return This instance for method chaining
+     */
+    public @NotNull InputNormalization trim() {
+        trim = true;
+        return this;
+    }
+
+    /**
+     * Replaces every run of whitespace with a single space.
+     *
+     * @return This instance for method chaining
+     */
+    public @NotNull InputNormalization collapseWhitespace() {
+        collapseWhitespace = true;
+        return this;
+    }
+
+    /**
+     * Applies Unicode NFKC normalization, folding full-width and compatibility characters.
+     *
+     * @return This instance for method chaining
+     */
+    public @NotNull InputNormalization nfkc() {
+        unicode = true;
+        return this;
+    }
+
+    /**
+     * Removes legacy color codes such as {@code &a} or {@code §l} and MiniMessage tags such as {@code <red>}.
+     *
+     * @return This instance for method chaining
+     */
+    public @NotNull InputNormalization stripFormatting() {
+        stripFormatting = true;
+        return this;
+    }
+
+    /**
+     * Truncates the normalized input to a maximum length.
+     *
+     * @param maxLength The maximum number of characters
+     * @return This instance for method chaining
+     */
+    public @NotNull InputNormalization maxLength(int maxLength) {
+        if (maxLength < 0) throw new IllegalArgumentException("Maximum input length cannot be negative");
+        this.maxLength = maxLength;
+        return this;
+    }
+
+    /**
+     * Compiles the steps into a normalizer.
+     *
+     * @return The compiled normalizer
+     */
+    public @NotNull InputNormalizer compile() {
+        return new InputNormalizer(trim, collapseWhitespace, unicode, stripFormatting, maxLength);
+    }
+}
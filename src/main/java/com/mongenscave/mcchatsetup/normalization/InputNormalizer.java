@@ -0,0 +1,130 @@
+package com.mongenscave.mcchatsetup.normalization;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Normalizer compiled from {@link InputNormalization}.
+ * Formatting removal, whitespace handling and truncation happen in one pass over the characters,
+ * and input that needs no change is returned as is. NFKC only runs first for input containing
+ * non-ASCII characters, since ASCII text is already in normal form. Immutable and thread-safe.
+ */
+public final class InputNormalizer implements UnaryOperator<String> {
+    private static final String LEGACY_CODES = "0123456789abcdefklmnorx";
+
+    private final boolean trim;
+    private final boolean collapseWhitespace;
+    private final boolean unicode;
+    private final boolean stripFormatting;
+    private final int maxLength;
+
+    InputNormalizer(boolean trim, boolean collapseWhitespace, boolean unicode, boolean stripFormatting, int maxLength) {
+        this.trim = trim;
+        this.collapseWhitespace = collapseWhitespace;
+        this.unicode = unicode;
+        this.stripFormatting = stripFormatting;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Normalizes an input.
+     *
+     * @param input The raw input
+     * @return The normalized input
+     */
+    @Override
+    public @NotNull String apply(@NotNull String input) {
+        String source = unicode && !isAscii(input) ? Normalizer.normalize(input, Normalizer.Form.NFKC) : input;
+
+        StringBuilder output = new StringBuilder(Math.min(source.length(), maxLength));
+        boolean pendingSpace = false;
+        int length = source.length();
+
+        for (int i = 0; i < length && output.length() < maxLength; i++) {
+            char character = source.charAt(i);
+
+            if (stripFormatting) {
+                int skip = formattingLength(source, i);
+                if (skip > 0) {
+                    i += skip - 1;
+                    continue;
+                }
+            }
+
+            if (Character.isWhitespace(character)) {
+                if (collapseWhitespace) {
+                    pendingSpace = true;
+                } else if (!trim || !output.isEmpty()) {
+                    output.append(character);
+                }
+                continue;
+            }
+
+            if (pendingSpace) {
+                pendingSpace = false;
+                if (!trim || !output.isEmpty()) {
+                    output.append(' ');
+                    if (output.length() >= maxLength) break;
+                }
+            }
+
+            if (Character.isHighSurrogate(character) && output.length() + 2 > maxLength) break;
+            output.append(character);
+        }
+
+        if (pendingSpace && !trim && output.length() < maxLength) output.append(' ');
+        if (trim) {
+            int end = output.length();
+            while (end > 0 && Character.isWhitespace(output.charAt(end - 1))) end--;
+            output.setLength(end);
+        }
+
+        return input.contentEquals(output) ? input : output.toString();
+    }
+
+    /**
+     * Gets the length of a legacy color code or MiniMessage tag starting at an index.
+     *
+     * @param source The input
+     * @param index The index
+     * @return The length of the formatting, or 0 if none starts at the index
+     */
+    private static int formattingLength(@NotNull String source, int index) {
+        char character = source.charAt(index);
+
+        if ((character == '&' || character == '§') && index + 1 < source.length()) {
+            char code = Character.toLowerCase(source.charAt(index + 1));
+            if (code == '#' && index + 8 <= source.length() && isHex(source, index + 2, index + 8)) return 8;
+            return LEGACY_CODES.indexOf(code) >= 0 ? 2 : 0;
+        }
+
+        if (character == '<' && index + 1 < source.length()) {
+            char first = source.charAt(index + 1);
+            if (!Character.isLetter(first) && first != '/' && first != '#' && first != '!') return 0;
+
+            for (int i = index + 2; i < source.length(); i++) {
+                char next = source.charAt(i);
+                if (next == '>') return i - index + 1;
+                if (next == '<' || next == '\n') return 0;
+            }
+        }
+
+        return 0;
+    }
+
+    private static boolean isHex(@NotNull String source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.digit(source.charAt(i), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAscii(@NotNull String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Session event read from a recording.
+ *
+ * @param sequence The position of the event in the recorded stream
+ * @param nanos The {@link System#nanoTime()} of the event
+ * @param type The event type
+ * @param thread The name of the thread the event happened on
+ * @param sessionId The session of the event
+ * @param playerId The player of the event, or null for session-wide events
+ * @param payload The payload of the event, or null if it has none
+ */
+public record RecordedEvent(long sequence, long nanos, @NotNull SessionEventType type, @NotNull String thread,
+                            @NotNull UUID sessionId, @Nullable UUID playerId, @Nullable String payload) {
+}
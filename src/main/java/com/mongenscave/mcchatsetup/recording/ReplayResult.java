@@ -0,0 +1,24 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Outcome of replaying a recording.
+ *
+ * @param recorded The events of the recording
+ * @param replayed The events produced by the replay, with session IDs mapped back to the recorded ones
+ * @param divergence The index of the first event that differs, or -1 if the replay matches the recording
+ */
+public record ReplayResult(@NotNull List<RecordedEvent> recorded, @NotNull List<RecordedEvent> replayed, int divergence) {
+
+    /**
+     * Checks whether the replay produced the recorded events in the recorded order.
+     *
+     * @return true if no event diverged
+     */
+    public boolean isFaithful() {
+        return divergence < 0;
+    }
+}
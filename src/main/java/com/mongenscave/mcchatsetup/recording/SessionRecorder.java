@@ -0,0 +1,212 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring buffer capturing the ordered stream of session events for debugging races.
+ * Recording an event claims a sequence number with one atomic increment and stores references into
+ * preallocated arrays, so it never allocates or blocks; once full, the oldest events are overwritten.
+ * Each slot is guarded by a sequence stamp, so snapshots taken while events are recorded skip slots
+ * that are being rewritten instead of returning torn events.
+ */
+public final class SessionRecorder {
+    private static final String HEADER = "# mcchatsetup session recording v1";
+
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLongArray stamps;
+    private final long[] nanos;
+    private final SessionEventType[] types;
+    private final Thread[] threads;
+    private final UUID[] sessions;
+    private final UUID[] players;
+    private final String[] payloads;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param capacity The number of events kept, rounded up to a power of two
+     */
+    public SessionRecorder(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Recorder capacity must be positive");
+
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.stamps = new AtomicLongArray(size);
+        this.nanos = new long[size];
+        this.types = new SessionEventType[size];
+        this.threads = new Thread[size];
+        this.sessions = new UUID[size];
+        this.players = new UUID[size];
+        this.payloads = new String[size];
+    }
+
+    /**
+     * Records an event. Safe to call from any thread.
+     *
+     * @param type The event type
+     * @param sessionId The session of the event
+     * @param playerId The player of the event, or null for session-wide events
+     * @param payload The payload of the event, or null if it has none
+     */
+    public void record(@NotNull SessionEventType type, @NotNull UUID sessionId, @Nullable UUID playerId, @Nullable String payload) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) sequence & mask;
+
+        stamps.set(slot, -(sequence + 1));
+        VarHandle.releaseFence();
+        nanos[slot] = System.nanoTime();
+        types[slot] = type;
+        threads[slot] = Thread.currentThread();
+        sessions[slot] = sessionId;
+        players[slot] = playerId;
+        payloads[slot] = payload;
+        stamps.setRelease(slot, sequence + 1);
+    }
+
+    /**
+     * Gets the number of events recorded since creation, including overwritten ones.
+     *
+     * @return The number of recorded events
+     */
+    public long getRecordedCount() {
+        return next.get();
+    }
+
+    /**
+     * Copies the buffered events in recording order.
+     *
+     * @return The buffered events, oldest first
+     */
+    public @NotNull List<RecordedEvent> snapshot() {
+        long end = next.get();
+        long start = Math.max(0L, end - (mask + 1));
+        List<RecordedEvent> events = new ArrayList<>((int) (end - start));
+
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            if (stamps.getAcquire(slot) != sequence + 1) continue;
+
+            long time = nanos[slot];
+            SessionEventType type = types[slot];
+            Thread thread = threads[slot];
+            UUID sessionId = sessions[slot];
+            UUID playerId = players[slot];
+            String payload = payloads[slot];
+
+            VarHandle.acquireFence();
+            if (stamps.get(slot) != sequence + 1) continue;
+
+            events.add(new RecordedEvent(sequence, time, type, thread.getName(), sessionId, playerId, payload));
+        }
+
+        return events;
+    }
+
+    /**
+     * Writes the buffered events to a file, one tab-separated event per line, replacing it atomically.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void dump(@NotNull Path file) throws IOException {
+        List<RecordedEvent> events = snapshot();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+
+            for (RecordedEvent event : events) {
+                writer.write(event.sequence() + "\t" + event.nanos() + "\t" + event.type() + "\t" + escape(event.thread())
+                        + "\t" + event.sessionId() + "\t" + (event.playerId() != null ? event.playerId() : "-")
+                        + "\t" + (event.payload() != null ? escape(event.payload()) : "-"));
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a recording written by {@link #dump(Path)}.
+     *
+     * @param file The recording
+     * @return The recorded events in order
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static @NotNull List<RecordedEvent> load(@NotNull Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.getFirst().equals(HEADER)) throw new IOException("Not a session recording: " + file);
+
+        List<RecordedEvent> events = new ArrayList<>(lines.size() - 1);
+        for (int i = 1; i < lines.size(); i++) {
+            String[] fields = lines.get(i).split("\t", -1);
+            if (fields.length != 7) throw new IOException("Malformed recording line " + (i + 1) + " in " + file);
+
+            try {
+                events.add(new RecordedEvent(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                        SessionEventType.valueOf(fields[2]), unescape(fields[3]), UUID.fromString(fields[4]),
+                        fields[5].equals("-") ? null : UUID.fromString(fields[5]),
+                        fields[6].equals("-") ? null : unescape(fields[6])));
+            } catch (IllegalArgumentException exception) {
+                throw new IOException("Malformed recording line " + (i + 1) + " in " + file, exception);
+            }
+        }
+
+        return events;
+    }
+
+    private static @NotNull String escape(@NotNull String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '-' -> escaped.append(i == 0 && value.length() == 1 ? "\\-" : "-");
+                default -> escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static @NotNull String unescape(@NotNull String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character != '\\' || i + 1 == value.length()) {
+                unescaped.append(character);
+                continue;
+            }
+
+            char next = value.charAt(++i);
+            unescaped.append(switch (next) {
+                case 't' -> '\t';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                default -> next;
+            });
+        }
+        return unescaped.toString();
+    }
+}
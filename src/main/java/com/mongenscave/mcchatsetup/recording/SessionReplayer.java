@@ -0,0 +1,165 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.scheduler.ManualSessionScheduler;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Feeds a recording back into a session manager to reproduce the recorded interleaving.
+ * The manager must run on a {@link ManualSessionScheduler}, typically on a test server such as MockBukkit:
+ * inputs are replayed on the calling thread and queued tasks run only when the recording shows their
+ * callback, so callbacks, inputs and timeouts happen in exactly the recorded order. Timeouts are replayed
+ * at their recorded position instead of from the clock.
+ */
+public final class SessionReplayer {
+    private final ChatSessionManager sessionManager;
+    private final ManualSessionScheduler scheduler;
+    private final Function<UUID, Player> players;
+    private final Function<RecordedEvent, ChatSession> sessions;
+
+    /**
+     * Creates a replayer.
+     *
+     * @param sessionManager The manager to replay into, created with a {@link ManualSessionScheduler}
+     * @param players Resolves recorded player UUIDs to players of the test server
+     * @param sessions Builds the session of a recorded start event, without players
+     * @throws IllegalArgumentException if the manager does not run on a manual scheduler
+     */
+    public SessionReplayer(@NotNull ChatSessionManager sessionManager,
+                           @NotNull Function<UUID, Player> players,
+                           @NotNull Function<RecordedEvent, ChatSession> sessions) {
+        if (!(sessionManager.getScheduler() instanceof ManualSessionScheduler manual)) {
+            throw new IllegalArgumentException("Replays need a manager running on a ManualSessionScheduler");
+        }
+
+        this.sessionManager = sessionManager;
+        this.scheduler = manual;
+        this.players = players;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Replays a recording and compares the events it produces with the recorded ones.
+     * Threads and timestamps are not compared, since the replay runs on a single thread, and neither is the
+     * player order of start events.
+     *
+     * @param recording The recorded events, usually from {@link SessionRecorder#load(java.nio.file.Path)}
+     * @return The replayed events and the first divergence, if any
+     */
+    public @NotNull ReplayResult replay(@NotNull List<RecordedEvent> recording) {
+        SessionRecorder previous = sessionManager.getRecorder();
+        SessionRecorder recorder = new SessionRecorder(Math.max(16, recording.size() * 2));
+        sessionManager.setRecorder(recorder);
+
+        Map<UUID, UUID> sessionIds = new HashMap<>();
+        int callbacks = 0;
+
+        try {
+            for (RecordedEvent event : recording) {
+                UUID sessionId = sessionIds.get(event.sessionId());
+                Player player = event.playerId() != null ? players.apply(event.playerId()) : null;
+
+                switch (event.type()) {
+                    case START -> {
+                        UUID started = start(event);
+                        if (started != null) sessionIds.put(event.sessionId(), started);
+                    }
+                    case INPUT -> {
+                        if (sessionId != null && player != null) input(sessionId, player, Objects.requireNonNullElse(event.payload(), ""));
+                    }
+                    case CALLBACK -> runUntilCallbacks(recorder, ++callbacks);
+                    case TIMEOUT -> {
+                        if (sessionId != null) sessionManager.completeSession(sessionId, SessionOutcome.TIMEOUT);
+                    }
+                    case QUIT -> {
+                        if (player != null) sessionManager.handleQuit(player);
+                    }
+                    case REJECT, END -> {
+                    }
+                }
+            }
+
+            scheduler.runAll();
+        } finally {
+            sessionManager.setRecorder(previous);
+        }
+
+        Map<UUID, UUID> recordedIds = new HashMap<>();
+        sessionIds.forEach((recordedId, replayedId) -> recordedIds.put(replayedId, recordedId));
+
+        List<RecordedEvent> replayed = new ArrayList<>();
+        for (RecordedEvent event : recorder.snapshot()) {
+            replayed.add(new RecordedEvent(event.sequence(), event.nanos(), event.type(), event.thread(),
+                    recordedIds.getOrDefault(event.sessionId(), event.sessionId()), event.playerId(), event.payload()));
+        }
+
+        return new ReplayResult(recording, replayed, divergence(recording, replayed));
+    }
+
+    private @Nullable UUID start(@NotNull RecordedEvent event) {
+        ChatSession session = sessions.apply(event);
+        if (session == null) return null;
+
+        if (event.payload() != null && !event.payload().isEmpty()) {
+            for (String playerId : event.payload().split(",")) {
+                Player player = players.apply(UUID.fromString(playerId));
+                if (player != null) session.addPlayer(player);
+            }
+        }
+
+        return session.isEmpty() ? null : sessionManager.startSession(session);
+    }
+
+    /**
+     * Runs a recorded input through the pipeline of the input handlers.
+     * Recorded inputs are already normalized, so they are not normalized again.
+     */
+    private void input(@NotNull UUID sessionId, @NotNull Player player, @NotNull String input) {
+        if (sessionManager.handleControlInput(sessionId, player, input)) return;
+        if (!sessionManager.validateInput(sessionId, player, input)) return;
+
+        sessionManager.submitInput(sessionId, player, input);
+    }
+
+    /**
+     * Runs queued tasks in order until the replay reached a number of callbacks or the queue is empty.
+     */
+    private void runUntilCallbacks(@NotNull SessionRecorder recorder, int callbacks) {
+        while (count(recorder, SessionEventType.CALLBACK) < callbacks) {
+            if (!scheduler.runNext()) return;
+        }
+    }
+
+    private static int count(@NotNull SessionRecorder recorder, @NotNull SessionEventType type) {
+        int count = 0;
+        for (RecordedEvent event : recorder.snapshot()) {
+            if (event.type() == type) count++;
+        }
+        return count;
+    }
+
+    private static int divergence(@NotNull List<RecordedEvent> recorded, @NotNull List<RecordedEvent> replayed) {
+        int size = Math.min(recorded.size(), replayed.size());
+        for (int i = 0; i < size; i++) {
+            RecordedEvent expected = recorded.get(i);
+            RecordedEvent actual = replayed.get(i);
+            if (expected.type() != actual.type() || !expected.sessionId().equals(actual.sessionId())
+                    || !Objects.equals(expected.playerId(), actual.playerId())
+                    || expected.type() != SessionEventType.START && !Objects.equals(expected.payload(), actual.payload())) return i;
+        }
+        return recorded.size() == replayed.size() ? -1 : size;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler for single-threaded servers, running everything on the main thread.
+ */
+public final class BukkitSessionScheduler implements SessionScheduler {
+
+    @Override
+    public void runForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void executeForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        executeOnMain(plugin, task);
+    }
+
+    @Override
+    public void executeAt(@NotNull Plugin plugin, @NotNull Location location, @NotNull Runnable task) {
+        executeOnMain(plugin, task);
+    }
+
+    @Override
+    public void runGlobal(@NotNull Plugin plugin, @NotNull Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public @NotNull TaskHandle runGlobalTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delayTicks, long periodTicks) {
+        BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+        return bukkitTask::cancel;
+    }
+
+    @Override
+    public void runAsync(@NotNull Plugin plugin, @NotNull Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public void runAsyncLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        long ticks = Math.max(1L, (unit.toMillis(delay) + 49L) / 50L);
+        Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, ticks);
+    }
+
+    /**
+     * Runs a task now if called on the main thread, otherwise on the next tick.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run
+     */
+    private void executeOnMain(@NotNull Plugin plugin, @NotNull Runnable task) {
+        if (Bukkit.isPrimaryThread()) task.run();
+        else Bukkit.getScheduler().runTask(plugin, task);
+    }
+}
@@ -0,0 +1,58 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler for region-threaded servers.
+ * Player tasks run on the entity scheduler of the player, world operations on the region scheduler
+ * of the location, and timers on the global region scheduler.
+ */
+public final class FoliaSessionScheduler implements SessionScheduler {
+
+    @Override
+    public void runForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        ScheduledTask scheduled = player.getScheduler().run(plugin, ignored -> task.run(), () -> runGlobal(plugin, task));
+        if (scheduled == null) runGlobal(plugin, task);
+    }
+
+    @Override
+    public void executeForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(player)) task.run();
+        else runForPlayer(plugin, player, task);
+    }
+
+    @Override
+    public void executeAt(@NotNull Plugin plugin, @NotNull Location location, @NotNull Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(location)) task.run();
+        else Bukkit.getRegionScheduler().execute(plugin, location, task);
+    }
+
+    @Override
+    public void runGlobal(@NotNull Plugin plugin, @NotNull Runnable task) {
+        Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    @Override
+    public @NotNull TaskHandle runGlobalTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delayTicks, long periodTicks) {
+        ScheduledTask scheduled = Bukkit.getGlobalRegionScheduler()
+                .runAtFixedRate(plugin, ignored -> task.run(), Math.max(1L, delayTicks), periodTicks);
+        return scheduled::cancel;
+    }
+
+    @Override
+    public void runAsync(@NotNull Plugin plugin, @NotNull Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, ignored -> task.run());
+    }
+
+    @Override
+    public void runAsyncLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        Bukkit.getAsyncScheduler().runDelayed(plugin, ignored -> task.run(), Math.max(1L, delay), unit);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded scheduler driven by the caller, for replaying recordings and headless tests.
+ * Scheduled tasks are queued in submission order and run only when the caller asks, so the
+ * interleaving of inputs, callbacks and timer ticks is fully determined by the caller.
+ * Not thread-safe; drive it from one thread.
+ */
+public final class ManualSessionScheduler implements SessionScheduler {
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+    private final List<Timer> timers = new ArrayList<>();
+
+    @Override
+    public void runForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        queue.addLast(task);
+    }
+
+    @Override
+    public void executeForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public void executeAt(@NotNull Plugin plugin, @NotNull Location location, @NotNull Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public void runGlobal(@NotNull Plugin plugin, @NotNull Runnable task) {
+        queue.addLast(task);
+    }
+
+    @Override
+    public @NotNull TaskHandle runGlobalTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delayTicks, long periodTicks) {
+        Timer timer = new Timer(task);
+        timers.add(timer);
+        return () -> timers.remove(timer);
+    }
+
+    @Override
+    public void runAsync(@NotNull Plugin plugin, @NotNull Runnable task) {
+        queue.addLast(task);
+    }
+
+    @Override
+    public void runAsyncLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        queue.addLast(task);
+    }
+
+    /**
+     * Runs the oldest queued task.
+     *
+     * @return false if no task was queued
+     */
+    public boolean runNext() {
+        Runnable task = queue.pollFirst();
+        if (task == null) return false;
+
+        task.run();
+        return true;
+    }
+
+    /**
+     * Runs queued tasks, including tasks they queue, until the queue is empty.
+     *
+     * @return The number of tasks run
+     */
+    public int runAll() {
+        int count = 0;
+        while (runNext()) count++;
+        return count;
+    }
+
+    /**
+     * Runs every repeating task once, in registration order.
+     */
+    public void tick() {
+        for (Timer timer : List.copyOf(timers)) {
+            if (timers.contains(timer)) timer.task.run();
+        }
+    }
+
+    /**
+     * Gets the number of queued tasks.
+     *
+     * @return The number of tasks waiting to run
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Repeating task, compared by identity so equal tasks can be cancelled separately.
+     */
+    private static final class Timer {
+        private final Runnable task;
+
+        private Timer(@NotNull Runnable task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduling abstraction for session callbacks, timeouts and world operations.
+ * On Folia tasks run on the region thread owning the player or location and timers run on the
+ * global region scheduler; on Paper and Spigot everything runs on the main thread as before.
+ */
+public interface SessionScheduler {
+
+    /**
+     * Creates the scheduler matching the running server.
+     *
+     * @return A Folia scheduler on region-threaded servers, a Bukkit scheduler otherwise
+     */
+    static @NotNull SessionScheduler create() {
+        return isFolia() ? new FoliaSessionScheduler() : new BukkitSessionScheduler();
+    }
+
+    /**
+     * Checks whether the server is region-threaded.
+     *
+     * @return true when running on Folia
+     */
+    static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Schedules a task on the next tick of the thread owning the player.
+     * If the player is no longer valid the task runs on the global thread instead.
+     *
+     * @param plugin The plugin owning the task
+     * @param player The player whose thread runs the task
+     * @param task The task to run
+     */
+    void runForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task);
+
+    /**
+     * Runs a task immediately if the current thread owns the player, otherwise schedules it on that thread.
+     *
+     * @param plugin The plugin owning the task
+     * @param player The player whose thread runs the task
+     * @param task The task to run
+     */
+    void executeForPlayer(@NotNull Plugin plugin, @NotNull Player player, @NotNull Runnable task);
+
+    /**
+     * Runs a task immediately if the current thread owns the location, otherwise schedules it on that thread.
+     *
+     * @param plugin The plugin owning the task
+     * @param location The location whose thread runs the task
+     * @param task The task to run
+     */
+    void executeAt(@NotNull Plugin plugin, @NotNull Location location, @NotNull Runnable task);
+
+    /**
+     * Schedules a task on the next tick of the global thread.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run
+     */
+    void runGlobal(@NotNull Plugin plugin, @NotNull Runnable task);
+
+    /**
+     * Schedules a repeating task on the global thread.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run
+     * @param delayTicks The delay before the first run, at least one tick
+     * @param periodTicks The period between runs in ticks
+     * @return A handle to cancel the task
+     */
+    @NotNull TaskHandle runGlobalTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a task off the server threads.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run
+     */
+    void runAsync(@NotNull Plugin plugin, @NotNull Runnable task);
+
+    /**
+     * Runs a task off the server threads after a delay.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run
+     * @param delay The delay before running
+     * @param unit The unit of the delay
+     */
+    void runAsyncLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay, @NotNull TimeUnit unit);
+}
@@ -0,0 +1,13 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+/**
+ * Handle to a scheduled task, independent of the underlying scheduler implementation.
+ */
+@FunctionalInterface
+public interface TaskHandle {
+
+    /**
+     * Cancels the task if it has not run yet, or stops it if it is repeating.
+     */
+    void cancel();
+}
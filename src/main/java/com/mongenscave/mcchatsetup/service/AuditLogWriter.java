@@ -0,0 +1,355 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.identifiers.AuditDropPolicy;
+import com.mongenscave.mcchatsetup.model.AuditRecord;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous audit sink for submitted session inputs.
+ * Records are enqueued into a bounded lock-free queue and appended in batches
+ * to a size-rotated log file by a single background writer thread.
+ */
+public final class AuditLogWriter implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(AuditLogWriter.class.getName());
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Path file;
+    private final int capacity;
+    private final AuditDropPolicy dropPolicy;
+    private final int batchSize;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final long maxBlockNanos;
+
+    private final ConcurrentLinkedQueue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Thread writerThread;
+
+    private FileChannel channel;
+    private long fileBytes;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new audit writer with default batching and rotation settings.
+     *
+     * @param file The log file to append to
+     * @param capacity The maximum number of records waiting to be written
+     * @param dropPolicy The policy applied when the queue is full
+     */
+    public AuditLogWriter(@NotNull Path file, int capacity, @NotNull AuditDropPolicy dropPolicy) {
+        this(file, capacity, dropPolicy, 256, 10L * 1024 * 1024, 5, TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    /**
+     * Creates a new audit writer.
+     *
+     * @param file The log file to append to
+     * @param capacity The maximum number of records waiting to be written
+     * @param dropPolicy The policy applied when the queue is full
+     * @param batchSize The maximum number of records written per batch
+     * @param maxFileBytes The size after which the log file is rotated
+     * @param maxFiles The number of rotated files to keep
+     * @param maxBlockNanos The maximum time a submitter waits under {@link AuditDropPolicy#BLOCK}
+     */
+    public AuditLogWriter(@NotNull Path file,
+                          int capacity,
+                          @NotNull AuditDropPolicy dropPolicy,
+                          int batchSize,
+                          long maxFileBytes,
+                          int maxFiles,
+                          long maxBlockNanos) {
+        if (capacity <= 0 || batchSize <= 0 || maxFileBytes <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("Audit capacity, batch size, file size and file count must be positive");
+        }
+
+        this.file = file;
+        this.capacity = capacity;
+        this.dropPolicy = dropPolicy;
+        this.batchSize = batchSize;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.maxBlockNanos = maxBlockNanos;
+
+        this.writerThread = new Thread(this::runWriter, "McChatSetup-Audit");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Submits a record for writing.
+     * Under normal load this is a single enqueue; the drop policy only applies when the queue is full.
+     *
+     * @param record The record to write
+     * @return true if the record was queued
+     */
+    public boolean submit(@NotNull AuditRecord record) {
+        if (closed) {
+            dropped.increment();
+            return false;
+        }
+
+        if (queued.incrementAndGet() <= capacity) {
+            queue.offer(record);
+            return true;
+        }
+
+        return switch (dropPolicy) {
+            case DROP_NEWEST -> {
+                queued.decrementAndGet();
+                dropped.increment();
+                yield false;
+            }
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) queued.decrementAndGet();
+                dropped.increment();
+                queue.offer(record);
+                yield true;
+            }
+            case BLOCK -> {
+                queued.decrementAndGet();
+                yield submitBlocking(record);
+            }
+        };
+    }
+
+    /**
+     * Gets the number of records discarded because the queue was full or the writer was closed.
+     *
+     * @return The number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of records written to disk.
+     *
+     * @return The number of written records
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Gets the number of records currently waiting to be written.
+     *
+     * @return The queue size
+     */
+    public int getQueuedCount() {
+        return Math.max(0, queued.get());
+    }
+
+    /**
+     * Stops accepting records, flushes everything still queued and closes the log file.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retries the enqueue until space is available or the block budget is spent.
+     *
+     * @param record The record to write
+     * @return true if the record was queued
+     */
+    private boolean submitBlocking(@NotNull AuditRecord record) {
+        long deadline = System.nanoTime() + maxBlockNanos;
+
+        while (System.nanoTime() < deadline && !closed) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+
+            if (queued.incrementAndGet() <= capacity) {
+                queue.offer(record);
+                return true;
+            }
+
+            queued.decrementAndGet();
+        }
+
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Main loop of the background writer thread.
+     */
+    private void runWriter() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        StringBuilder buffer = new StringBuilder(batchSize * 128);
+
+        try {
+            openChannel();
+
+            while (!closed || !queue.isEmpty()) {
+                drain(batch);
+
+                if (batch.isEmpty()) {
+                    if (!closed) LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+
+                writeBatch(batch, buffer);
+                batch.clear();
+            }
+        } catch (IOException exception) {
+            LOGGER.log(Level.SEVERE, "Audit writer stopped, records will be dropped: " + file, exception);
+            closed = true;
+            dropped.add(queue.size());
+            queue.clear();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Moves up to one batch of records from the queue into the given list.
+     *
+     * @param batch The list to fill
+     */
+    private void drain(@NotNull List<AuditRecord> batch) {
+        AuditRecord record;
+        while (batch.size() < batchSize && (record = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(record);
+        }
+    }
+
+    /**
+     * Encodes and appends a batch of records with a single write.
+     *
+     * @param batch The records to write
+     * @param buffer The reusable text buffer
+     * @throws IOException if the file cannot be written or rotated
+     */
+    private void writeBatch(@NotNull List<AuditRecord> batch, @NotNull StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        for (AuditRecord record : batch) {
+            appendRecord(buffer, record);
+        }
+
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(buffer.toString());
+        if (fileBytes > 0 && fileBytes + bytes.remaining() > maxFileBytes) rotate();
+
+        while (bytes.hasRemaining()) {
+            fileBytes += channel.write(bytes);
+        }
+
+        written.add(batch.size());
+    }
+
+    /**
+     * Appends one record as a tab-separated line.
+     *
+     * @param buffer The text buffer
+     * @param record The record to append
+     */
+    private void appendRecord(@NotNull StringBuilder buffer, @NotNull AuditRecord record) {
+        buffer.append(Instant.ofEpochMilli(record.timestamp())).append('\t')
+                .append(record.sessionId()).append('\t')
+                .append(record.playerId()).append('\t')
+                .append(record.inputType()).append('\t')
+                .append(record.outcome()).append('\t')
+                .append(record.latencyMillis()).append('\t');
+
+        String input = record.input();
+        for (int i = 0; i < input.length(); i++) {
+            char character = input.charAt(i);
+            switch (character) {
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\\' -> buffer.append("\\\\");
+                default -> buffer.append(character);
+            }
+        }
+
+        buffer.append('\n');
+    }
+
+    /**
+     * Shifts the rotated files by one and starts a fresh log file.
+     *
+     * @throws IOException if the files cannot be moved or opened
+     */
+    private void rotate() throws IOException {
+        closeChannel();
+
+        Files.deleteIfExists(rotatedPath(maxFiles));
+        for (int index = maxFiles - 1; index >= 1; index--) {
+            Path source = rotatedPath(index);
+            if (Files.exists(source)) Files.move(source, rotatedPath(index + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (Files.exists(file)) Files.move(file, rotatedPath(1), StandardCopyOption.REPLACE_EXISTING);
+        openChannel();
+    }
+
+    /**
+     * Opens the log file for appending.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    private void openChannel() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+    }
+
+    /**
+     * Closes the current log file, ignoring errors.
+     */
+    private void closeChannel() {
+        if (channel == null) return;
+
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Failed to close audit log " + file, exception);
+        }
+
+        channel = null;
+    }
+
+    /**
+     * Gets the path of a rotated log file.
+     *
+     * @param index The rotation index, starting at 1
+     * @return The rotated file path
+     */
+    private @NotNull Path rotatedPath(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
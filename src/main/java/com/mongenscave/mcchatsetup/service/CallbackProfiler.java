@@ -0,0 +1,101 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.identifiers.CallbackKind;
+import com.mongenscave.mcchatsetup.model.CallbackSample;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Times a sample of session callbacks into a fixed ring of recent samples.
+ * Only one in every few callbacks is timed, so callbacks that are not sampled cost a single atomic
+ * increment; sampled ones cost two clock reads and one small allocation. Reports are built from a copy
+ * of the ring and can run on any thread.
+ */
+public final class CallbackProfiler {
+    private final int sampleMask;
+    private final int ringMask;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicReferenceArray<CallbackSample> ring;
+
+    /**
+     * Creates a profiler.
+     *
+     * @param capacity The number of recent samples kept, rounded up to a power of two
+     * @param sampleEvery Times one in this many callbacks, rounded up to a power of two
+     */
+    public CallbackProfiler(int capacity, int sampleEvery) {
+        if (capacity < 1 || sampleEvery < 1) throw new IllegalArgumentException("Capacity and sample rate must be positive");
+
+        this.ringMask = powerOfTwo(capacity) - 1;
+        this.sampleMask = powerOfTwo(sampleEvery) - 1;
+        this.ring = new AtomicReferenceArray<>(ringMask + 1);
+    }
+
+    /**
+     * Runs a callback, timing it if it is sampled.
+     *
+     * @param owner The name of the plugin owning the session
+     * @param kind The callback that runs
+     * @param callback The callback
+     */
+    public void run(@NotNull String owner, @NotNull CallbackKind kind, @NotNull Runnable callback) {
+        if ((calls.getAndIncrement() & sampleMask) != 0) {
+            callback.run();
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            callback.run();
+        } finally {
+            long duration = System.nanoTime() - started;
+            ring.set((int) samples.getAndIncrement() & ringMask,
+                    new CallbackSample(owner, kind, duration, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Gets the slowest of the recent samples.
+     *
+     * @param limit The maximum number of samples returned
+     * @return The slowest samples, slowest first
+     */
+    public @NotNull List<CallbackSample> slowest(int limit) {
+        List<CallbackSample> recent = new ArrayList<>(ringMask + 1);
+        for (int i = 0; i <= ringMask; i++) {
+            CallbackSample sample = ring.get(i);
+            if (sample != null) recent.add(sample);
+        }
+
+        recent.sort(Comparator.comparingLong(CallbackSample::durationNanos).reversed());
+        return recent.size() > limit ? List.copyOf(recent.subList(0, limit)) : recent;
+    }
+
+    /**
+     * Gets the number of callbacks run through this profiler, sampled or not.
+     *
+     * @return The number of callbacks
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * Gets how many callbacks run for each one that is timed.
+     *
+     * @return The sample rate
+     */
+    public int getSampleEvery() {
+        return sampleMask + 1;
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
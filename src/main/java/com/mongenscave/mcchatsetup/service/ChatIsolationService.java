@@ -0,0 +1,106 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.identifiers.ChatIsolation;
+import com.mongenscave.mcchatsetup.model.ChatBuffer;
+import io.papermc.paper.chat.ChatRenderer;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Service that holds back other players' chat from isolated session participants.
+ * Each captured message is stored once and shared by the buffers of every participant it was held from;
+ * it is rendered for each participant only when replayed.
+ */
+public final class ChatIsolationService {
+    private static final String SUMMARY_MESSAGE = "<gray>You missed <count> chat message(s) while answering the prompt.";
+
+    private final MessageFormatter messageFormatter;
+    private final ConcurrentMap<UUID, ChatBuffer> buffers = new ConcurrentHashMap<>();
+
+    public ChatIsolationService(@NotNull MessageFormatter messageFormatter) {
+        this.messageFormatter = messageFormatter;
+    }
+
+    /**
+     * Starts holding back chat from a participant.
+     *
+     * @param playerId The participant UUID
+     * @param isolation The isolation mode
+     * @param capacity The maximum number of messages kept
+     */
+    public void isolate(@NotNull UUID playerId, @NotNull ChatIsolation isolation, int capacity) {
+        if (isolation == ChatIsolation.NONE) return;
+        buffers.put(playerId, new ChatBuffer(isolation, capacity));
+    }
+
+    /**
+     * Stops holding back chat from a participant and replays or summarizes what was held back.
+     *
+     * @param playerId The participant UUID
+     */
+    public void release(@NotNull UUID playerId) {
+        ChatBuffer buffer = buffers.remove(playerId);
+        if (buffer == null) return;
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null) return;
+
+        if (buffer.getIsolation() == ChatIsolation.SUMMARY) {
+            int count = buffer.getReceivedCount();
+            if (count > 0) player.sendMessage(messageFormatter.formatMessage(SUMMARY_MESSAGE,
+                    messageFormatter.createCustomResolver("count", String.valueOf(count))));
+            return;
+        }
+
+        for (CapturedChat captured : buffer.<CapturedChat>drain()) {
+            player.sendMessage(captured.renderer().render(captured.source(), captured.sourceDisplayName(), captured.message(), player));
+        }
+    }
+
+    /**
+     * Removes isolated participants from the viewers of a chat message and buffers it for them.
+     * Costs one map iteration over isolated participants and one set removal each; nothing is
+     * allocated unless at least one participant was actually held back.
+     *
+     * @param event The chat event being rendered
+     */
+    public void capture(@NotNull AsyncChatEvent event) {
+        if (buffers.isEmpty()) return;
+
+        Set<Audience> viewers = event.viewers();
+        Player source = event.getPlayer();
+        CapturedChat captured = null;
+
+        for (Map.Entry<UUID, ChatBuffer> entry : buffers.entrySet()) {
+            Player viewer = Bukkit.getPlayer(entry.getKey());
+            if (viewer == null || viewer == source || !viewers.remove(viewer)) continue;
+
+            if (captured == null) captured = new CapturedChat(source, source.displayName(), event.message(), event.renderer());
+            entry.getValue().add(captured);
+        }
+    }
+
+    /**
+     * Chat message captured from the render path.
+     *
+     * @param source The sender
+     * @param sourceDisplayName The sender display name at the time of sending
+     * @param message The message
+     * @param renderer The renderer in effect for the message
+     */
+    private record CapturedChat(@NotNull Player source,
+                                @NotNull Component sourceDisplayName,
+                                @NotNull Component message,
+                                @NotNull ChatRenderer renderer) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.identifiers.CountdownDisplay;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for live countdown displays.
+ * All countdowns are advanced by the session manager's shared ticker in a single pass; a countdown
+ * only re-sends when its displayed second changes, and the rendered component for each
+ * (format, second) pair is cached and reused by every session.
+ */
+public final class CountdownService {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final MessageFormatter messageFormatter;
+    private final ConcurrentMap<String, Component[]> componentCache = new ConcurrentHashMap<>();
+
+    public CountdownService(@NotNull MessageFormatter messageFormatter) {
+        this.messageFormatter = messageFormatter;
+    }
+
+    /**
+     * Creates the countdown state of a session.
+     *
+     * @param session The session configuration
+     * @param startedAt The session start time in nanoseconds
+     * @return The countdown state, or null if the session shows no countdown
+     */
+    public @Nullable Countdown start(@NotNull ChatSession session, long startedAt) {
+        if (session.getCountdownDisplay() == CountdownDisplay.NONE) return null;
+
+        Countdown countdown = new Countdown(session, startedAt);
+        if (session.getCountdownDisplay() == CountdownDisplay.BOSS_BAR) {
+            countdown.bossBar = BossBar.bossBar(Component.empty(), 1.0F, BossBar.Color.YELLOW, BossBar.Overlay.PROGRESS);
+            for (Player player : session.getPlayers()) {
+                player.showBossBar(countdown.bossBar);
+            }
+        }
+
+        return countdown;
+    }
+
+    /**
+     * Advances a countdown, sending an update only if the displayed second changed.
+     *
+     * @param countdown The countdown state
+     * @param deadline The session deadline in nanoseconds
+     * @param now The current time in nanoseconds
+     */
+    public void update(@NotNull Countdown countdown, long deadline, long now) {
+        long remainingNanos = Math.max(0L, deadline - now);
+        int remaining = (int) ((remainingNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        if (remaining == countdown.displayedSecond) return;
+
+        countdown.displayedSecond = remaining;
+        Component component = render(countdown.session.getCountdownFormat(), remaining);
+
+        if (countdown.bossBar != null) {
+            long total = Math.max(1L, deadline - countdown.startedAt);
+            countdown.bossBar.name(component);
+            countdown.bossBar.progress(Math.min(1.0F, (float) remainingNanos / total));
+            return;
+        }
+
+        for (Player player : countdown.session.getPlayers()) {
+            player.sendActionBar(component);
+        }
+    }
+
+    /**
+     * Hides a countdown from a single player that left the session.
+     *
+     * @param countdown The countdown state
+     * @param player The player that left the session
+     */
+    public void hide(@NotNull Countdown countdown, @NotNull Player player) {
+        if (countdown.bossBar != null) player.hideBossBar(countdown.bossBar);
+    }
+
+    /**
+     * Hides a countdown from every player of its session.
+     *
+     * @param countdown The countdown state
+     */
+    public void stop(@NotNull Countdown countdown) {
+        if (countdown.bossBar == null) return;
+
+        for (Player player : countdown.session.getPlayers()) {
+            player.hideBossBar(countdown.bossBar);
+        }
+    }
+
+    /**
+     * Gets the cached countdown component for a format and remaining second, rendering it on first use.
+     *
+     * @param format The MiniMessage countdown format
+     * @param seconds The remaining seconds
+     * @return The rendered component
+     */
+    private @NotNull Component render(@NotNull String format, int seconds) {
+        Component[] components = componentCache.get(format);
+        if (components == null || components.length <= seconds) {
+            components = componentCache.merge(format, new Component[seconds + 1],
+                    (existing, created) -> existing.length > seconds ? existing : Arrays.copyOf(existing, seconds + 1));
+        }
+
+        Component component = components[seconds];
+        if (component == null) {
+            component = messageFormatter.formatMessage(format,
+                    messageFormatter.createCustomResolver("time", String.valueOf(seconds)));
+            components[seconds] = component;
+        }
+
+        return component;
+    }
+
+    /**
+     * Countdown state of a single session.
+     * Only touched by the ticker thread after creation.
+     */
+    public static final class Countdown {
+        private final ChatSession session;
+        private final long startedAt;
+        private BossBar bossBar;
+        private int displayedSecond = -1;
+
+        private Countdown(@NotNull ChatSession session, long startedAt) {
+            this.session = session;
+            this.startedAt = startedAt;
+        }
+    }
+}
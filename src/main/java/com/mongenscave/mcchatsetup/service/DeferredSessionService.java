@@ -0,0 +1,289 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+
+/**
+ * Holds prompts for offline players and starts them when the player joins.
+ * Prompts are indexed by player UUID, so a join costs a single map removal and nothing when the
+ * player has no prompt waiting. Prompts deferred with a key instead of a session are written to a
+ * small store and rebuilt on join through the restorer of the plugin that deferred them, so they
+ * survive restarts.
+ */
+public final class DeferredSessionService {
+    private final ChatSessionManager sessionManager;
+    private final Path store;
+    private final ConcurrentMap<UUID, DeferredPrompt> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final ConcurrentMap<String, BiFunction<UUID, String, ChatSession>> restorers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the service and loads the prompts persisted by earlier runs, so no later write can drop them.
+     *
+     * @param sessionManager The session manager starting the prompts
+     * @param store The file keyed prompts are persisted to
+     */
+    public DeferredSessionService(@NotNull ChatSessionManager sessionManager, @NotNull Path store) {
+        this.sessionManager = sessionManager;
+        this.store = store;
+
+        long now = System.currentTimeMillis();
+        for (StoredPrompt stored : readStore(sessionManager.getPlugin())) {
+            if (stored.expiresAt() > now) pending.putIfAbsent(stored.playerId(), new DeferredPrompt(null, stored.owner(), stored.key(), stored.expiresAt()));
+        }
+    }
+
+    /**
+     * Defers a session until the player joins. The prompt is kept in memory only.
+     * A prompt already waiting for the player is replaced.
+     *
+     * @param playerId The UUID of the player
+     * @param session The session to start, without players
+     * @param expiry How long the prompt waits for the player
+     */
+    public void defer(@NotNull UUID playerId, @NotNull ChatSession session, @NotNull Duration expiry) {
+        DeferredPrompt previous = pending.put(playerId, new DeferredPrompt(session, null, null, expiresAt(expiry)));
+        purgeExpired();
+        if (previous != null && previous.key() != null) persist();
+    }
+
+    /**
+     * Defers a prompt identified by a key until the player joins. The prompt is persisted and its session
+     * is built by the restorer of the owning plugin when the player joins. A prompt already waiting for the
+     * player is replaced.
+     *
+     * @param owner The plugin whose restorer builds the session
+     * @param playerId The UUID of the player
+     * @param key The key passed to the restorer, for example a trade ID
+     * @param expiry How long the prompt waits for the player
+     */
+    public void defer(@NotNull JavaPlugin owner, @NotNull UUID playerId, @NotNull String key, @NotNull Duration expiry) {
+        if (key.indexOf('\n') >= 0) throw new IllegalArgumentException("Deferred prompt keys cannot contain line breaks");
+
+        pending.put(playerId, new DeferredPrompt(null, owner.getName(), key, expiresAt(expiry)));
+        purgeExpired();
+        persist();
+    }
+
+    /**
+     * Removes the prompt waiting for a player.
+     *
+     * @param playerId The UUID of the player
+     * @return true if a prompt was waiting
+     */
+    public boolean cancel(@NotNull UUID playerId) {
+        DeferredPrompt removed = pending.remove(playerId);
+        if (removed != null && removed.key() != null) persist();
+        return removed != null;
+    }
+
+    /**
+     * Sets the restorer building sessions for the keyed prompts of a plugin.
+     *
+     * @param owner The plugin deferring the prompts
+     * @param restorer Builds the session for a player UUID and key, or returns null to drop the prompt
+     */
+    public void setRestorer(@NotNull JavaPlugin owner, @NotNull BiFunction<UUID, String, ChatSession> restorer) {
+        restorers.put(owner.getName(), restorer);
+    }
+
+    /**
+     * Removes the restorer and the in-memory prompts of a disabled plugin. Its persisted prompts stay
+     * stored and wait until the plugin sets its restorer again.
+     *
+     * @param owner The disabled plugin
+     */
+    public void handlePluginDisable(@NotNull Plugin owner) {
+        restorers.remove(owner.getName());
+        pending.values().removeIf(prompt -> prompt.session() != null && owner.equals(prompt.session().getOwner()));
+    }
+
+    /**
+     * Starts the prompt waiting for a joining player, if any. Keyed prompts whose plugin has not set a
+     * restorer keep waiting.
+     *
+     * @param player The player that joined
+     */
+    public void handleJoin(@NotNull Player player) {
+        if (pending.isEmpty()) return;
+
+        DeferredPrompt prompt = pending.get(player.getUniqueId());
+        if (prompt == null) return;
+
+        boolean expired = prompt.expiresAt() <= System.currentTimeMillis();
+        if (!expired && prompt.key() != null && !restorers.containsKey(prompt.owner())) return;
+        if (!pending.remove(player.getUniqueId(), prompt)) return;
+        if (prompt.key() != null) persist();
+        if (expired) return;
+
+        JavaPlugin plugin = sessionManager.getPlugin();
+        sessionManager.getScheduler().runForPlayer(plugin, player, () -> {
+            if (!player.isOnline()) return;
+
+            ChatSession session = prompt.session() != null ? prompt.session() : restore(player.getUniqueId(), prompt);
+            if (session == null) return;
+
+            session.addPlayer(player);
+            sessionManager.startSession(session);
+        });
+    }
+
+    /**
+     * Gets the number of prompts waiting for players.
+     *
+     * @return The number of waiting prompts, including expired ones not yet purged
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private @Nullable ChatSession restore(@NotNull UUID playerId, @NotNull DeferredPrompt prompt) {
+        BiFunction<UUID, String, ChatSession> restorer = restorers.get(prompt.owner());
+        if (restorer == null) {
+            sessionManager.getPlugin().getLogger().warning("No restorer of " + prompt.owner() + " for deferred prompt " + prompt.key());
+            return null;
+        }
+
+        try {
+            return restorer.apply(playerId, prompt.key());
+        } catch (RuntimeException exception) {
+            sessionManager.getPlugin().getLogger().log(Level.WARNING, "Failed to restore deferred prompt " + prompt.key()
+                    + " of " + prompt.owner(), exception);
+            return null;
+        }
+    }
+
+    /**
+     * Drops expired prompts, rewriting the store if a persisted one was dropped.
+     */
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        AtomicBoolean removedKeyed = new AtomicBoolean();
+        pending.values().removeIf(prompt -> {
+            if (prompt.expiresAt() > now) return false;
+            if (prompt.key() != null) removedKeyed.set(true);
+            return true;
+        });
+        if (removedKeyed.get()) persist();
+    }
+
+    private static long expiresAt(@NotNull Duration expiry) {
+        return System.currentTimeMillis() + expiry.toMillis();
+    }
+
+    /**
+     * Schedules an asynchronous store rewrite, coalescing writes requested while one is pending.
+     */
+    private void persist() {
+        if (!writeScheduled.compareAndSet(false, true)) return;
+
+        JavaPlugin plugin = sessionManager.getPlugin();
+        sessionManager.getScheduler().runAsync(plugin, () -> {
+            writeScheduled.set(false);
+            writeStore(plugin);
+        });
+    }
+
+    /**
+     * Rewrites the store with the keyed prompts, replacing the file atomically.
+     *
+     * @param plugin The plugin used for logging
+     */
+    private synchronized void writeStore(@NotNull JavaPlugin plugin) {
+        try {
+            List<String> lines = new ArrayList<>();
+            for (Map.Entry<UUID, DeferredPrompt> entry : pending.entrySet()) {
+                DeferredPrompt prompt = entry.getValue();
+                if (prompt.key() != null) lines.add(entry.getKey() + " " + prompt.expiresAt() + " " + prompt.owner() + " " + prompt.key());
+            }
+
+            if (lines.isEmpty()) {
+                Files.deleteIfExists(store);
+                return;
+            }
+
+            Path parent = store.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            Path temporary = store.resolveSibling(store.getFileName() + ".tmp");
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, store, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            plugin.getLogger().log(Level.WARNING, "Failed to write deferred prompts " + store, exception);
+        }
+    }
+
+    /**
+     * Reads the persisted prompts.
+     *
+     * @param plugin The plugin used for logging
+     * @return The persisted prompts, empty if there is no store
+     */
+    private synchronized @NotNull List<StoredPrompt> readStore(@NotNull JavaPlugin plugin) {
+        if (!Files.exists(store)) return List.of();
+
+        List<StoredPrompt> prompts = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(store, StandardCharsets.UTF_8)) {
+                int first = line.indexOf(' ');
+                int second = line.indexOf(' ', first + 1);
+                int third = line.indexOf(' ', second + 1);
+                if (first < 0 || second < 0 || third < 0) continue;
+
+                try {
+                    prompts.add(new StoredPrompt(UUID.fromString(line.substring(0, first)),
+                            Long.parseLong(line.substring(first + 1, second)),
+                            line.substring(second + 1, third), line.substring(third + 1)));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        } catch (IOException exception) {
+            plugin.getLogger().log(Level.WARNING, "Failed to read deferred prompts " + store, exception);
+        }
+
+        return prompts;
+    }
+
+    /**
+     * Prompt waiting for a player.
+     *
+     * @param session The session to start, or null for a keyed prompt
+     * @param owner The name of the plugin whose restorer builds the session, or null for an in-memory prompt
+     * @param key The restorer key, or null for an in-memory prompt
+     * @param expiresAt When the prompt expires, in epoch milliseconds
+     */
+    private record DeferredPrompt(@Nullable ChatSession session, @Nullable String owner, @Nullable String key, long expiresAt) {
+    }
+
+    /**
+     * Keyed prompt read from the store.
+     *
+     * @param playerId The UUID of the player
+     * @param expiresAt When the prompt expires, in epoch milliseconds
+     * @param owner The name of the plugin whose restorer builds the session
+     * @param key The restorer key
+     */
+    private record StoredPrompt(@NotNull UUID playerId, long expiresAt, @NotNull String owner, @NotNull String key) {
+    }
+}
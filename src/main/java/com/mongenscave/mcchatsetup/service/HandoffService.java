@@ -0,0 +1,145 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.builder.ChatSessionBuilder;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.template.PromptTemplate;
+import com.mongenscave.mcchatsetup.transport.SessionHandoff;
+import com.mongenscave.mcchatsetup.transport.SessionResult;
+import com.mongenscave.mcchatsetup.transport.SessionTransport;
+import com.mongenscave.mcchatsetup.transport.TransportMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Moves template-based prompts between servers when a player switches servers mid-prompt.
+ * The origin server keeps the session waiting and broadcasts a handoff; the server the player joins
+ * starts the same template with the remaining time and sends the outcome back to the origin,
+ * which then runs the session callbacks as if the player had answered locally. Only results for
+ * sessions this server handed off, answered by the player they were handed to, are accepted.
+ */
+public final class HandoffService {
+    private final ChatSessionManager sessionManager;
+    private final SessionTransport transport;
+    private final Function<String, PromptTemplate> templates;
+    private final Map<UUID, PendingHandoff> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> handedOff = new ConcurrentHashMap<>();
+
+    public HandoffService(@NotNull ChatSessionManager sessionManager,
+                          @NotNull SessionTransport transport,
+                          @NotNull Function<String, PromptTemplate> templates) {
+        this.sessionManager = sessionManager;
+        this.transport = transport;
+        this.templates = templates;
+        transport.setReceiver(this::receive);
+    }
+
+    /**
+     * Hands a single-player template session off to the next server of a quitting player.
+     *
+     * @param activeSession The session of the player
+     * @param player The quitting player
+     * @return true if the session was handed off and must stay active until its result arrives,
+     *         false if it could not be sent through the player's connection
+     */
+    public boolean handOff(@NotNull ChatSessionManager.ActiveSession activeSession, @NotNull Player player) {
+        ChatSession session = activeSession.getSession();
+        if (session.getTemplateId() == null || activeSession.getPoll() != null || session.getPlayers().size() != 1) return false;
+
+        long remaining = TimeUnit.NANOSECONDS.toMillis(activeSession.getDeadline() - System.nanoTime());
+        if (remaining <= 0) return false;
+
+        List<String> answers = session.getStepAnswers() != null ? List.copyOf(session.getStepAnswers()) : List.of();
+        handedOff.keySet().removeIf(sessionId -> !sessionManager.isSessionActive(sessionId));
+        handedOff.put(activeSession.getSessionId(), player.getUniqueId());
+        SessionHandoff handoff = new SessionHandoff(transport.getServerName(), activeSession.getSessionId(),
+                player.getUniqueId(), session.getTemplateId(), remaining, answers);
+        if (transport.sendNow(SessionTransport.BROADCAST, handoff, player)) return true;
+
+        handedOff.remove(activeSession.getSessionId());
+        return false;
+    }
+
+    /**
+     * Starts a prompt handed off to this server for a joining player.
+     * Must run on the thread owning the player.
+     *
+     * @param player The joining player
+     */
+    public void handleJoin(@NotNull Player player) {
+        PendingHandoff handoff = pending.remove(player.getUniqueId());
+        if (handoff == null) return;
+
+        long remaining = TimeUnit.NANOSECONDS.toMillis(handoff.expiresAt() - System.nanoTime());
+        if (remaining <= 0) return;
+
+        SessionHandoff request = handoff.handoff();
+        PromptTemplate template = templates.apply(request.templateId());
+        if (template == null) {
+            reply(request, SessionOutcome.ABORTED, null);
+            return;
+        }
+
+        AtomicReference<String> answer = new AtomicReference<>();
+        ChatSessionBuilder builder = ChatSessionBuilder.create(sessionManager.getPlugin());
+        builder.withTemplate(template);
+        builder.withTimeLimit(Duration.ofMillis(remaining));
+        builder.addPlayer(player);
+        builder.onInput(answer::set);
+
+        ChatSession session = builder.build();
+        session.setStepAnswers(request.answers());
+        session.setOnEnd(outcome -> reply(request, outcome, outcome.isSuccess() ? answer.get() : null));
+
+        if (sessionManager.startSession(session) == null) reply(request, SessionOutcome.ABORTED, null);
+    }
+
+    /**
+     * Handles a message received from another server.
+     *
+     * @param message The message
+     */
+    private void receive(@NotNull TransportMessage message) {
+        switch (message) {
+            case SessionHandoff handoff -> {
+                if (handoff.originServer().equals(transport.getServerName())) return;
+
+                long now = System.nanoTime();
+                pending.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+                pending.put(handoff.playerId(), new PendingHandoff(handoff,
+                        now + TimeUnit.MILLISECONDS.toNanos(handoff.remainingMillis())));
+
+                Player player = Bukkit.getPlayer(handoff.playerId());
+                if (player != null) sessionManager.getScheduler().runForPlayer(sessionManager.getPlugin(), player, () -> handleJoin(player));
+            }
+            case SessionResult result -> {
+                if (handedOff.remove(result.sessionId(), result.playerId())) sessionManager.completeRemote(result);
+            }
+        }
+    }
+
+    private void reply(@NotNull SessionHandoff request, @NotNull SessionOutcome outcome, @Nullable String input) {
+        transport.send(request.originServer(), new SessionResult(request.sessionId(), request.playerId(), outcome, input));
+    }
+
+    /**
+     * Handoff waiting for its player to join.
+     *
+     * @param handoff The handoff
+     * @param expiresAt When the prompt runs out of time, in {@link System#nanoTime()} units
+     */
+    private record PendingHandoff(@NotNull SessionHandoff handoff, long expiresAt) {
+    }
+}
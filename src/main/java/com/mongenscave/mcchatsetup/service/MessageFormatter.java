@@ -1,20 +1,35 @@
 package com.mongenscave.mcchatsetup.service;
 
+import com.mongenscave.mcchatsetup.identifiers.ControlKeyword;
+import com.mongenscave.mcchatsetup.keyword.KeywordMatcher;
 import com.mongenscave.mcchatsetup.model.ChatSession;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.bukkit.entity.Player;
 import org.intellij.lang.annotations.Subst;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Service for formatting and processing chat messages using MiniMessage.
  * Handles MiniMessage formatting with custom TagResolvers for placeholders.
+ * Session messages are rendered once per template and locale and then served from a cache.
  */
 public final class MessageFormatter {
     private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+    private static final int MAX_CACHED_RENDERS = 1024;
+
+    private final ConcurrentMap<RenderKey, Component> renderCache = new ConcurrentHashMap<>();
 
     /**
      * Formats a chat session message with custom tag resolvers.
@@ -23,8 +38,56 @@ public final class MessageFormatter {
      * @return The formatted Component ready to be sent
      */
     public @NotNull Component formatSessionMessage(@NotNull ChatSession session) {
-        TagResolver sessionResolver = createSessionTagResolver(session);
-        return MINI_MESSAGE.deserialize(session.getMessage(), sessionResolver);
+        return formatSessionMessage(session, Locale.ROOT);
+    }
+
+    /**
+     * Formats a chat session message for a locale.
+     * Localized messages are picked by exact locale, then language, then the default message;
+     * translation keys are rendered through the {@link GlobalTranslator}.
+     * Rendered components are cached per template and locale until {@link #invalidate()} is called.
+     *
+     * @param session The chat session containing the message and configuration
+     * @param locale The locale of the receiving player
+     * @return The formatted Component ready to be sent
+     */
+    public @NotNull Component formatSessionMessage(@NotNull ChatSession session, @NotNull Locale locale) {
+        String translationKey = session.getTranslationKey();
+        String template = translationKey != null ? translationKey : localizedTemplate(session, locale);
+        RenderKey key = new RenderKey(template, translationKey != null, session.getTimeLimit().toSeconds(),
+                cancelDisplay(session, locale), locale);
+
+        Component cached = renderCache.get(key);
+        if (cached != null) return cached;
+
+        if (renderCache.size() >= MAX_CACHED_RENDERS) renderCache.clear();
+        return renderCache.computeIfAbsent(key, this::render);
+    }
+
+    /**
+     * Formats a chat session message for a group of players, rendering each distinct locale once.
+     *
+     * @param session The chat session containing the message and configuration
+     * @param players The receiving players
+     * @return The formatted Component for each player
+     */
+    public @NotNull Map<Player, Component> formatSessionMessage(@NotNull ChatSession session,
+                                                                @NotNull Collection<Player> players) {
+        Map<Locale, Component> byLocale = new HashMap<>();
+        Map<Player, Component> messages = new HashMap<>();
+
+        for (Player player : players) {
+            messages.put(player, byLocale.computeIfAbsent(player.locale(), locale -> formatSessionMessage(session, locale)));
+        }
+
+        return messages;
+    }
+
+    /**
+     * Clears every cached render, for example after messages or translations were reloaded.
+     */
+    public void invalidate() {
+        renderCache.clear();
     }
 
     /**
@@ -45,17 +108,65 @@ public final class MessageFormatter {
     /**
      * Creates a TagResolver for session-specific placeholders.
      *
-     * @param session The session containing the values
+     * @param key The render key holding the time limit and cancel keyword to insert
      * @return TagResolver with session placeholders
      */
-    private @NotNull TagResolver createSessionTagResolver(@NotNull ChatSession session) {
+    private @NotNull TagResolver createSessionTagResolver(@NotNull RenderKey key) {
         return TagResolver.resolver(
                 StandardTags.defaults(),
-                TagResolver.resolver("time", Tag.inserting(Component.text(session.getTimeLimit().toSeconds()))),
-                TagResolver.resolver("cancel", Tag.inserting(Component.text(session.getCancelCommand())))
+                TagResolver.resolver("time", Tag.inserting(Component.text(key.seconds()))),
+                TagResolver.resolver("cancel", Tag.inserting(Component.text(key.cancel())))
         );
     }
 
+    /**
+     * Renders a session message.
+     * Translation keys receive the time limit and cancel keyword as arguments {@code {0}} and {@code {1}}.
+     *
+     * @param key The render key
+     * @return The rendered component
+     */
+    private @NotNull Component render(@NotNull RenderKey key) {
+        if (key.translatable()) {
+            Component message = Component.translatable(key.template(),
+                    Component.text(key.seconds()), Component.text(key.cancel()));
+            return GlobalTranslator.render(message, key.locale());
+        }
+
+        return MINI_MESSAGE.deserialize(key.template(), createSessionTagResolver(key));
+    }
+
+    /**
+     * Picks the message template for a locale.
+     *
+     * @param session The session
+     * @param locale The locale
+     * @return The exact locale message, the language message, or the default message
+     */
+    private @NotNull String localizedTemplate(@NotNull ChatSession session, @NotNull Locale locale) {
+        Map<Locale, String> messages = session.getLocalizedMessages();
+        if (messages == null || messages.isEmpty()) return session.getMessage();
+
+        String message = messages.get(locale);
+        if (message == null && !locale.getCountry().isEmpty()) message = messages.get(Locale.forLanguageTag(locale.getLanguage()));
+        return message != null ? message : session.getMessage();
+    }
+
+    /**
+     * Gets the cancel keyword shown in prompts.
+     *
+     * @param session The session
+     * @param locale The locale of the receiving player
+     * @return The prefixed cancel keyword, or the cancel command if the session has no keyword set
+     */
+    private @NotNull String cancelDisplay(@NotNull ChatSession session, @NotNull Locale locale) {
+        KeywordMatcher keywords = session.getControlKeywords();
+        if (keywords == null) return session.getCancelCommand();
+
+        String display = keywords.display(ControlKeyword.CANCEL, locale);
+        return display != null ? display : session.getCancelCommand();
+    }
+
     /**
      * Creates a custom TagResolver for additional placeholders.
      *
@@ -77,4 +188,17 @@ public final class MessageFormatter {
     public @NotNull TagResolver createCustomResolver(@Subst("") @NotNull String key, @NotNull String value) {
         return TagResolver.resolver(key, Tag.inserting(Component.text(value)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Cache key of a rendered session message.
+     *
+     * @param template The MiniMessage template or translation key
+     * @param translatable Whether the template is a translation key
+     * @param seconds The time limit in seconds
+     * @param cancel The cancel keyword shown
+     * @param locale The locale rendered for
+     */
+    private record RenderKey(@NotNull String template, boolean translatable, long seconds,
+                             @NotNull String cancel, @NotNull Locale locale) {
+    }
+}
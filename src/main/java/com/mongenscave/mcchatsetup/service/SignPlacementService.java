@@ -0,0 +1,373 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.scheduler.SessionScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Chooses, reserves and restores the temporary sign blocks used for sign input.
+ * Positions are picked from a fixed list of offsets around the player that stay inside loaded chunks,
+ * so no heightmap lookup or chunk load happens per prompt, and a player's last position is reused
+ * when it is still free. Each position is queued for the journal before its sign is placed and appended
+ * by an async task through a channel kept open between writes, so signs left behind by a crash are
+ * removed on the next start and the server threads never touch the disk.
+ */
+public final class SignPlacementService {
+    private static final int[][] OFFSETS = {
+            {0, 3, 0}, {0, 4, 0}, {1, 3, 0}, {-1, 3, 0}, {0, 3, 1}, {0, 3, -1},
+            {1, 2, 1}, {-1, 2, -1}, {1, 2, -1}, {-1, 2, 1}, {0, -2, 0}, {0, -3, 0}
+    };
+    private static final int MAX_REUSE_DISTANCE_SQUARED = 9;
+    private static final UUID RECOVERED = new UUID(0, 0);
+
+    private final SessionScheduler scheduler;
+    private final Path journal;
+    private final ConcurrentMap<SignPosition, UUID> reserved = new ConcurrentHashMap<>();
+    private final Map<UUID, SignPosition> lastPositions = new ConcurrentHashMap<>();
+    private final Queue<SignPosition> appends = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean appendScheduled = new AtomicBoolean();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final AtomicBoolean recovered = new AtomicBoolean();
+    private final CountDownLatch journalRead = new CountDownLatch(1);
+    private FileChannel appendChannel;
+
+    public SignPlacementService(@NotNull SessionScheduler scheduler, @NotNull Path journal) {
+        this.scheduler = scheduler;
+        this.journal = journal;
+    }
+
+    /**
+     * Places a temporary sign near a player. Must run on the thread owning the player.
+     *
+     * @param plugin The plugin scheduling the journal write
+     * @param player The player
+     * @return The placed sign block, or null if no free position near the player is loaded
+     */
+    public @Nullable Block place(@NotNull JavaPlugin plugin, @NotNull Player player) {
+        Location base = player.getLocation();
+        World world = base.getWorld();
+        UUID playerId = player.getUniqueId();
+
+        Block block = null;
+        SignPosition last = lastPositions.get(playerId);
+        if (last != null && last.world().equals(world.getName()) && last.distanceSquared(base) <= MAX_REUSE_DISTANCE_SQUARED) {
+            block = tryReserve(world, last, playerId);
+        }
+
+        for (int i = 0; i < OFFSETS.length && block == null; i++) {
+            int[] offset = OFFSETS[i];
+            SignPosition position = new SignPosition(world.getName(), base.getBlockX() + offset[0],
+                    base.getBlockY() + offset[1], base.getBlockZ() + offset[2]);
+            block = tryReserve(world, position, playerId);
+        }
+
+        if (block == null) return null;
+
+        SignPosition position = SignPosition.of(block);
+        appends.offer(position);
+        scheduleAppend(plugin);
+        block.setType(Material.OAK_SIGN);
+        lastPositions.put(playerId, position);
+        return block;
+    }
+
+    /**
+     * Removes a temporary sign on the thread owning its region and frees its position.
+     *
+     * @param plugin The plugin scheduling the work
+     * @param block The sign block
+     */
+    public void remove(@NotNull JavaPlugin plugin, @NotNull Block block) {
+        scheduler.executeAt(plugin, block.getLocation(), () -> {
+            if (block.getType() == Material.OAK_SIGN) block.setType(Material.AIR);
+            reserved.remove(SignPosition.of(block));
+            persist(plugin);
+        });
+    }
+
+    /**
+     * Forgets the last position of a player that left the server.
+     *
+     * @param playerId The player UUID
+     */
+    public void forget(@NotNull UUID playerId) {
+        lastPositions.remove(playerId);
+    }
+
+    /**
+     * Removes signs recorded in the journal by a previous run that did not shut down cleanly.
+     * Runs once, when the engine is created. Journal rewrites wait until the journal was read, recorded
+     * positions stay reserved until their sign is removed, and the journal is rewritten only after every
+     * removal ran; positions in worlds that are not loaded stay in the journal for the next start.
+     *
+     * @param plugin The plugin scheduling the work
+     */
+    public void recover(@NotNull JavaPlugin plugin) {
+        if (!recovered.compareAndSet(false, true)) return;
+
+        scheduler.runAsync(plugin, () -> {
+            List<SignPosition> positions;
+            try {
+                positions = readJournal();
+                for (SignPosition position : positions) reserved.putIfAbsent(position, RECOVERED);
+            } finally {
+                journalRead.countDown();
+            }
+            if (positions.isEmpty()) return;
+
+            AtomicInteger pending = new AtomicInteger(1);
+            AtomicInteger removed = new AtomicInteger();
+            Runnable finish = () -> {
+                if (pending.decrementAndGet() != 0) return;
+
+                if (removed.get() > 0) plugin.getLogger().info("Removed " + removed.get() + " input sign(s) left by an unclean shutdown");
+                persist(plugin);
+            };
+
+            for (SignPosition position : new LinkedHashSet<>(positions)) {
+                if (reserved.get(position) != RECOVERED) continue;
+
+                World world = Bukkit.getWorld(position.world());
+                if (world == null) continue;
+
+                Location location = new Location(world, position.x(), position.y(), position.z());
+                pending.incrementAndGet();
+                scheduler.executeAt(plugin, location, () -> {
+                    try {
+                        Block block = location.getBlock();
+                        if (block.getType() == Material.OAK_SIGN) {
+                            block.setType(Material.AIR);
+                            removed.incrementAndGet();
+                        }
+                        reserved.remove(position, RECOVERED);
+                    } finally {
+                        finish.run();
+                    }
+                });
+            }
+
+            finish.run();
+        });
+    }
+
+    /**
+     * Reserves a position if it is inside the world, in a loaded chunk, empty and not used by another prompt.
+     *
+     * @param world The world
+     * @param position The position
+     * @param playerId The player reserving the position
+     * @return The block at the position, or null if it cannot be used
+     */
+    private @Nullable Block tryReserve(@NotNull World world, @NotNull SignPosition position, @NotNull UUID playerId) {
+        if (position.y() < world.getMinHeight() || position.y() >= world.getMaxHeight()) return null;
+        if (!world.isChunkLoaded(position.x() >> 4, position.z() >> 4)) return null;
+
+        Block block = world.getBlockAt(position.x(), position.y(), position.z());
+        if (!block.getType().isAir()) return null;
+
+        return reserved.putIfAbsent(position, playerId) == null ? block : null;
+    }
+
+    /**
+     * Closes the channel used for journal appends.
+     */
+    public synchronized void close() {
+        closeAppendChannel();
+    }
+
+    /**
+     * Schedules an asynchronous append of the queued positions, coalescing appends requested while one is pending.
+     *
+     * @param plugin The plugin scheduling the work
+     */
+    private void scheduleAppend(@NotNull JavaPlugin plugin) {
+        if (!appendScheduled.compareAndSet(false, true)) return;
+
+        scheduler.runAsync(plugin, () -> {
+            appendScheduled.set(false);
+            writeAppends(plugin);
+        });
+    }
+
+    /**
+     * Schedules an asynchronous journal rewrite, coalescing writes requested while one is pending.
+     * Rewrites wait until a pending recovery has read the journal, so they cannot drop its positions.
+     *
+     * @param plugin The plugin scheduling the work
+     */
+    private void persist(@NotNull JavaPlugin plugin) {
+        if (!writeScheduled.compareAndSet(false, true)) return;
+
+        scheduler.runAsync(plugin, () -> {
+            writeScheduled.set(false);
+            if (recovered.get()) {
+                try {
+                    journalRead.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            writeJournal(plugin);
+        });
+    }
+
+    /**
+     * Appends the queued positions to the journal, opening the append channel if needed.
+     *
+     * @param plugin The plugin used for logging
+     */
+    private synchronized void writeAppends(@NotNull JavaPlugin plugin) {
+        if (appends.isEmpty()) return;
+
+        StringBuilder lines = new StringBuilder();
+        SignPosition position;
+        while ((position = appends.poll()) != null) lines.append(position.serialize()).append(System.lineSeparator());
+
+        try {
+            if (appendChannel == null) {
+                Path parent = journal.toAbsolutePath().getParent();
+                if (parent != null) Files.createDirectories(parent);
+                appendChannel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) appendChannel.write(buffer);
+        } catch (IOException exception) {
+            closeAppendChannel();
+            plugin.getLogger().log(Level.WARNING, "Failed to write sign journal " + journal, exception);
+        }
+    }
+
+    /**
+     * Closes the append channel, for example before the journal file is replaced.
+     */
+    private synchronized void closeAppendChannel() {
+        if (appendChannel == null) return;
+
+        try {
+            appendChannel.close();
+        } catch (IOException ignored) {
+        }
+        appendChannel = null;
+    }
+
+    /**
+     * Rewrites the journal with the currently reserved positions, replacing the file atomically.
+     *
+     * @param plugin The plugin used for logging
+     */
+    private synchronized void writeJournal(@NotNull JavaPlugin plugin) {
+        closeAppendChannel();
+        try {
+            if (reserved.isEmpty()) {
+                Files.deleteIfExists(journal);
+                return;
+            }
+
+            List<String> lines = new ArrayList<>(reserved.size());
+            for (SignPosition position : reserved.keySet()) lines.add(position.serialize());
+
+            Path parent = journal.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            Path temporary = journal.resolveSibling(journal.getFileName() + ".tmp");
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            plugin.getLogger().log(Level.WARNING, "Failed to write sign journal " + journal, exception);
+        }
+    }
+
+    /**
+     * Reads the positions recorded in the journal.
+     *
+     * @return The recorded positions, empty if there is no journal
+     */
+    private synchronized @NotNull List<SignPosition> readJournal() {
+        if (!Files.exists(journal)) return List.of();
+
+        List<SignPosition> positions = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                SignPosition position = SignPosition.parse(line);
+                if (position != null) positions.add(position);
+            }
+        } catch (IOException exception) {
+            return List.of();
+        }
+
+        return positions;
+    }
+
+    /**
+     * Block position of a temporary sign.
+     *
+     * @param world The world name
+     * @param x The block X coordinate
+     * @param y The block Y coordinate
+     * @param z The block Z coordinate
+     */
+    private record SignPosition(@NotNull String world, int x, int y, int z) {
+
+        private static @NotNull SignPosition of(@NotNull Block block) {
+            return new SignPosition(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
+        }
+
+        private static @Nullable SignPosition parse(@NotNull String line) {
+            int last = line.lastIndexOf(' ');
+            int middle = line.lastIndexOf(' ', last - 1);
+            int first = line.lastIndexOf(' ', middle - 1);
+            if (first <= 0) return null;
+
+            try {
+                return new SignPosition(line.substring(0, first),
+                        Integer.parseInt(line.substring(first + 1, middle)),
+                        Integer.parseInt(line.substring(middle + 1, last)),
+                        Integer.parseInt(line.substring(last + 1)));
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+        }
+
+        private @NotNull String serialize() {
+            return world + " " + x + " " + y + " " + z;
+        }
+
+        private int distanceSquared(@NotNull Location location) {
+            int dx = x - location.getBlockX();
+            int dy = y - location.getBlockY();
+            int dz = z - location.getBlockZ();
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.mongenscave.mcchatsetup.service;
+
+import com.mongenscave.mcchatsetup.scheduler.SessionScheduler;
+import com.mongenscave.mcchatsetup.suggestion.SuggestionProvider;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Pushes prompt suggestions to the chat completions of players.
+ * Suggestions are computed asynchronously and cached per provider. Each player's completions are
+ * diffed against what was last sent, so consecutive prompts only send the suggestions that changed.
+ */
+public final class SuggestionService {
+    private final SessionScheduler scheduler;
+    private final ConcurrentMap<SuggestionProvider, CachedSuggestions> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Binding> bindings = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> sent = new ConcurrentHashMap<>();
+
+    public SuggestionService(@NotNull SessionScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Shows the suggestions of a session to a player.
+     *
+     * @param plugin The plugin scheduling the work
+     * @param sessionId The session the player joined
+     * @param player The player
+     * @param providers The suggestion providers of the session
+     */
+    public void bind(@NotNull JavaPlugin plugin, @NotNull UUID sessionId, @NotNull Player player,
+                     @NotNull List<SuggestionProvider> providers) {
+        bindings.put(player.getUniqueId(), new Binding(sessionId, List.copyOf(providers)));
+        providers.forEach(provider -> ensureFresh(plugin, provider));
+        scheduleApply(plugin, player);
+    }
+
+    /**
+     * Removes the suggestions of a session from a player, unless the player already joined another session.
+     *
+     * @param plugin The plugin scheduling the work
+     * @param playerId The player UUID
+     * @param sessionId The session the player left
+     */
+    public void release(@NotNull JavaPlugin plugin, @NotNull UUID playerId, @NotNull UUID sessionId) {
+        Binding binding = bindings.get(playerId);
+        if (binding == null || !binding.sessionId().equals(sessionId) || !bindings.remove(playerId, binding)) return;
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) scheduleApply(plugin, player);
+        else sent.remove(playerId);
+    }
+
+    /**
+     * Recomputes expired suggestions of providers that are still in use.
+     *
+     * @param plugin The plugin scheduling the work
+     */
+    public void refreshExpired(@NotNull JavaPlugin plugin) {
+        if (bindings.isEmpty()) return;
+
+        Set<SuggestionProvider> active = new HashSet<>();
+        bindings.values().forEach(binding -> active.addAll(binding.providers()));
+        active.forEach(provider -> ensureFresh(plugin, provider));
+    }
+
+    /**
+     * Starts an async computation of a provider's suggestions if none are cached or they expired.
+     * Players using the provider are updated once the computation finishes.
+     *
+     * @param plugin The plugin scheduling the work
+     * @param provider The provider
+     */
+    private void ensureFresh(@NotNull JavaPlugin plugin, @NotNull SuggestionProvider provider) {
+        CachedSuggestions cached = cache.computeIfAbsent(provider, key -> new CachedSuggestions());
+        if (!cached.isExpired(provider, System.nanoTime()) || !cached.computing.compareAndSet(false, true)) return;
+
+        scheduler.runAsync(plugin, () -> {
+            try {
+                Set<String> values = Set.copyOf(provider.suggest());
+                boolean changed = !values.equals(cached.values);
+                cached.values = values;
+                cached.computedAt = System.nanoTime();
+                cached.computed = true;
+
+                if (changed) updateUsers(plugin, provider);
+            } catch (RuntimeException exception) {
+                plugin.getLogger().log(Level.WARNING, "Suggestion provider failed", exception);
+            } finally {
+                cached.computing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Schedules a completion update for every player using a provider.
+     *
+     * @param plugin The plugin scheduling the work
+     * @param provider The provider whose suggestions changed
+     */
+    private void updateUsers(@NotNull JavaPlugin plugin, @NotNull SuggestionProvider provider) {
+        bindings.forEach((playerId, binding) -> {
+            if (!binding.providers().contains(provider)) return;
+
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) scheduleApply(plugin, player);
+        });
+    }
+
+    private void scheduleApply(@NotNull JavaPlugin plugin, @NotNull Player player) {
+        scheduler.runForPlayer(plugin, player, () -> apply(player));
+    }
+
+    /**
+     * Sends the difference between a player's wanted and sent completions.
+     * Runs on the thread owning the player.
+     *
+     * @param player The player
+     */
+    private void apply(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        if (!player.isOnline()) {
+            sent.remove(playerId);
+            return;
+        }
+
+        Set<String> wanted = new HashSet<>();
+        Binding binding = bindings.get(playerId);
+        if (binding != null) {
+            for (SuggestionProvider provider : binding.providers()) {
+                CachedSuggestions cached = cache.get(provider);
+                if (cached != null) wanted.addAll(cached.values);
+            }
+        }
+
+        Set<String> current = sent.getOrDefault(playerId, Set.of());
+
+        Set<String> removed = new HashSet<>(current);
+        removed.removeAll(wanted);
+        Set<String> added = new HashSet<>(wanted);
+        added.removeAll(current);
+
+        if (!removed.isEmpty()) player.removeCustomChatCompletions(removed);
+        if (!added.isEmpty()) player.addCustomChatCompletions(added);
+
+        if (wanted.isEmpty()) sent.remove(playerId);
+        else sent.put(playerId, wanted);
+    }
+
+    /**
+     * Suggestion providers a player currently sees.
+     *
+     * @param sessionId The session the providers belong to
+     * @param providers The providers
+     */
+    private record Binding(@NotNull UUID sessionId, @NotNull List<SuggestionProvider> providers) {
+    }
+
+    /**
+     * Cached result of a provider.
+     */
+    private static final class CachedSuggestions {
+        private final AtomicBoolean computing = new AtomicBoolean();
+        private volatile Set<String> values = Set.of();
+        private volatile long computedAt;
+        private volatile boolean computed;
+
+        private boolean isExpired(@NotNull SuggestionProvider provider, long now) {
+            if (!computed) return true;
+
+            long interval = provider.getRefreshInterval().toNanos();
+            return interval > 0 && now - computedAt >= interval;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mongenscave.mcchatsetup.suggestion;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Source of chat completions offered to players while a prompt is active.
+ * Suggestions are computed off the main thread and cached per provider instance,
+ * so share provider instances between sessions instead of creating one per prompt.
+ */
+@FunctionalInterface
+public interface SuggestionProvider {
+    /**
+     * Provider suggesting the names of online players, refreshed every five seconds.
+     */
+    SuggestionProvider ONLINE_PLAYERS = refreshing(Duration.ofSeconds(5),
+            () -> Bukkit.getOnlinePlayers().stream().map(Player::getName).toList());
+
+    /**
+     * Computes the suggestions. Called on an async thread.
+     *
+     * @return The suggestions
+     */
+    @NotNull Collection<String> suggest();
+
+    /**
+     * Gets how long computed suggestions stay valid.
+     *
+     * @return The refresh interval, or {@link Duration#ZERO} if the suggestions never change
+     */
+    default @NotNull Duration getRefreshInterval() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Creates a provider with a fixed set of suggestions.
+     *
+     * @param suggestions The suggestions
+     * @return A new provider
+     */
+    @Contract("_ -> new")
+    static @NotNull SuggestionProvider of(@NotNull Collection<String> suggestions) {
+        List<String> values = List.copyOf(suggestions);
+        return () -> values;
+    }
+
+    /**
+     * Creates a provider whose suggestions are recomputed periodically while a prompt uses it.
+     *
+     * @param interval How long computed suggestions stay valid
+     * @param supplier The supplier computing the suggestions, called on an async thread
+     * @return A new provider
+     */
+    @Contract("_, _ -> new")
+    static @NotNull SuggestionProvider refreshing(@NotNull Duration interval, @NotNull Supplier<Collection<String>> supplier) {
+        return new SuggestionProvider() {
+            @Override
+            public @NotNull Collection<String> suggest() {
+                return supplier.get();
+            }
+
+            @Override
+            public @NotNull Duration getRefreshInterval() {
+                return interval;
+            }
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package com.mongenscave.mcchatsetup.template;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of prompt templates loaded from the YAML files of a directory.
+ * Files are parsed and compiled on a background thread and the template map is swapped atomically,
+ * so readers on any thread always see a complete set and sessions already running keep their settings.
+ * A file that fails to load keeps its previous templates.
+ */
+public final class PromptRegistry implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PromptRegistry.class.getName());
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final Path directory;
+    private final ExecutorService loader;
+    private final Map<Path, Map<String, PromptTemplate>> templatesByFile = new HashMap<>();
+    private final AtomicReference<Map<String, PromptTemplate>> templates = new AtomicReference<>(Map.of());
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private final Set<Path> pendingFiles = ConcurrentHashMap.newKeySet();
+
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a registry for a directory. Nothing is loaded until {@link #reload()} is called.
+     *
+     * @param directory The directory containing {@code .yml} prompt files
+     */
+    public PromptRegistry(@NotNull Path directory) {
+        this.directory = directory;
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "McChatSetup-Prompts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets a template by ID.
+     *
+     * @param id The template ID
+     * @return The template, or null if no loaded file defines it
+     */
+    public @Nullable PromptTemplate get(@NotNull String id) {
+        return templates.get().get(id);
+    }
+
+    /**
+     * Gets the IDs of every loaded template.
+     *
+     * @return The template IDs
+     */
+    public @NotNull Set<String> getIds() {
+        return templates.get().keySet();
+    }
+
+    /**
+     * Adds a listener called on the loader thread after templates were swapped.
+     *
+     * @param listener The listener
+     */
+    public void addReloadListener(@NotNull Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Reloads every file of the directory in the background.
+     *
+     * @return A future completed once the new templates are visible
+     */
+    public @NotNull CompletableFuture<Void> reload() {
+        return CompletableFuture.runAsync(() -> {
+            Map<Path, Map<String, PromptTemplate>> reloaded = new HashMap<>();
+
+            if (Files.isDirectory(directory)) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{yml,yaml}")) {
+                    for (Path file : files) {
+                        Map<String, PromptTemplate> loaded = loadFile(file);
+                        if (loaded == null) loaded = templatesByFile.get(file);
+                        if (loaded != null) reloaded.put(file, loaded);
+                    }
+                } catch (IOException exception) {
+                    LOGGER.log(Level.WARNING, "Failed to list prompt directory " + directory + ", keeping previous prompts", exception);
+                    return;
+                }
+            }
+
+            templatesByFile.clear();
+            templatesByFile.putAll(reloaded);
+            publish();
+        }, loader);
+    }
+
+    /**
+     * Starts watching the directory and reloads changed files in the background.
+     * Bursts of events for the same file, as produced by editors, are coalesced into one reload.
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    public synchronized void watch() throws IOException {
+        if (watchThread != null || closed) return;
+
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        watchThread = new Thread(this::runWatcher, "McChatSetup-PromptWatcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching and shuts down the loader thread.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException exception) {
+                LOGGER.log(Level.FINE, "Failed to close prompt watcher", exception);
+            }
+        }
+
+        loader.shutdown();
+    }
+
+    /**
+     * Main loop of the watcher thread.
+     */
+    private void runWatcher() {
+        try {
+            while (!closed) {
+                WatchKey key = watchService.take();
+                collect(key);
+
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(next);
+                }
+
+                if (!pendingFiles.isEmpty() && !closed) loader.execute(this::reloadPending);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    /**
+     * Collects the YAML files affected by the events of a watch key.
+     *
+     * @param key The watch key
+     */
+    private void collect(@NotNull WatchKey key) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (!(event.context() instanceof Path name)) continue;
+
+            String fileName = name.getFileName().toString();
+            if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) pendingFiles.add(directory.resolve(name));
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Reloads the files changed since the last reload. Runs on the loader thread.
+     */
+    private void reloadPending() {
+        Set<Path> files = new HashSet<>(pendingFiles);
+        pendingFiles.removeAll(files);
+        if (files.isEmpty()) return;
+
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                templatesByFile.remove(file);
+                continue;
+            }
+
+            Map<String, PromptTemplate> loaded = loadFile(file);
+            if (loaded != null) templatesByFile.put(file, loaded);
+        }
+
+        publish();
+    }
+
+    /**
+     * Parses and compiles every template of a file without publishing them. Runs on the loader thread.
+     * An invalid template keeps its previous version, if any.
+     *
+     * @param file The file to load
+     * @return The templates of the file, or null if the file cannot be parsed
+     */
+    private @Nullable Map<String, PromptTemplate> loadFile(@NotNull Path file) {
+        YamlConfiguration configuration = new YamlConfiguration();
+        try {
+            configuration.load(file.toFile());
+        } catch (IOException | InvalidConfigurationException exception) {
+            LOGGER.log(Level.WARNING, "Failed to load prompt file " + file + ", keeping previous prompts", exception);
+            return null;
+        }
+
+        Map<String, PromptTemplate> loaded = new HashMap<>();
+        for (String id : configuration.getKeys(false)) {
+            ConfigurationSection section = configuration.getConfigurationSection(id);
+            if (section == null) continue;
+
+            try {
+                loaded.put(id, PromptTemplate.fromConfig(id, section));
+            } catch (IllegalArgumentException exception) {
+                LOGGER.warning("Invalid prompt " + id + " in " + file + ": " + exception.getMessage());
+                PromptTemplate previous = templatesByFile.getOrDefault(file, Map.of()).get(id);
+                if (previous != null) loaded.put(id, previous);
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Builds the merged template map and swaps it in. Runs on the loader thread.
+     */
+    private void publish() {
+        Map<String, PromptTemplate> merged = new HashMap<>();
+        templatesByFile.values().forEach(merged::putAll);
+        templates.set(Map.copyOf(merged));
+
+        for (Runnable listener : reloadListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "Prompt reload listener failed", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mongenscave.mcchatsetup.template;
+
+import com.mongenscave.mcchatsetup.identifiers.InputType;
+import com.mongenscave.mcchatsetup.keyword.ControlKeywords;
+import com.mongenscave.mcchatsetup.keyword.KeywordMatcher;
+import com.mongenscave.mcchatsetup.normalization.InputNormalization;
+import com.mongenscave.mcchatsetup.normalization.InputNormalizer;
+import com.mongenscave.mcchatsetup.validation.CompiledValidator;
+import com.mongenscave.mcchatsetup.validation.ValidationRules;
+import lombok.Getter;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled prompt definition.
+ * Keywords, validation rules and normalization are compiled when the template is loaded, so starting a session
+ * from a template only copies references.
+ */
+@Getter
+public final class PromptTemplate {
+    private final String id;
+    private final String message;
+    private final Map<Locale, String> localizedMessages;
+    private final String translationKey;
+    private final Duration timeLimit;
+    private final String cancelCommand;
+    private final InputType inputType;
+    private final String anvilText;
+    private final int bookLimit;
+    private final KeywordMatcher keywords;
+    private final CompiledValidator validator;
+    private final InputNormalizer normalizer;
+
+    private PromptTemplate(@NotNull String id,
+                           @NotNull String message,
+                           @NotNull Map<Locale, String> localizedMessages,
+                           @Nullable String translationKey,
+                           @NotNull Duration timeLimit,
+                           @NotNull String cancelCommand,
+                           @NotNull InputType inputType,
+                           @NotNull String anvilText,
+                           int bookLimit,
+                           @Nullable KeywordMatcher keywords,
+                           @Nullable CompiledValidator validator,
+                           @Nullable InputNormalizer normalizer) {
+        this.id = id;
+        this.message = message;
+        this.localizedMessages = localizedMessages;
+        this.translationKey = translationKey;
+        this.timeLimit = timeLimit;
+        this.cancelCommand = cancelCommand;
+        this.inputType = inputType;
+        this.anvilText = anvilText;
+        this.bookLimit = bookLimit;
+        this.keywords = keywords;
+        this.validator = validator;
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * Parses and compiles a template from a configuration section.
+     * Supported keys: {@code message}, {@code messages.<locale>}, {@code translation-key}, {@code time} (seconds),
+     * {@code cancel}, {@code input} ({@code chat}, {@code sign}, {@code anvil} or {@code book}), {@code anvil-text},
+     * {@code book-limit} (characters read from a book, default 4096),
+     * {@code keywords} (see {@link ControlKeywords#fromConfig}), {@code validation} (see {@link ValidationRules#fromConfig})
+     * and {@code normalize} (see {@link InputNormalization#fromConfig}).
+     *
+     * @param id The template ID
+     * @param section The configuration section
+     * @return The compiled template
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static @NotNull PromptTemplate fromConfig(@NotNull String id, @NotNull ConfigurationSection section) {
+        Map<Locale, String> localizedMessages = new HashMap<>();
+        ConfigurationSection messages = section.getConfigurationSection("messages");
+        if (messages != null) {
+            for (String tag : messages.getKeys(false)) {
+                localizedMessages.put(Locale.forLanguageTag(tag.replace('_', '-')), messages.getString(tag, ""));
+            }
+        }
+
+        long seconds = section.getLong("time", 30);
+        if (seconds <= 0) throw new IllegalArgumentException("Prompt " + id + " needs a positive time");
+
+        InputType inputType = InputType.valueOf(section.getString("input", "chat").toUpperCase(Locale.ROOT));
+
+        int bookLimit = section.getInt("book-limit", 4096);
+        if (bookLimit <= 0) throw new IllegalArgumentException("Prompt " + id + " needs a positive book-limit");
+
+        ConfigurationSection keywordSection = section.getConfigurationSection("keywords");
+        ConfigurationSection validationSection = section.getConfigurationSection("validation");
+        ConfigurationSection normalizeSection = section.getConfigurationSection("normalize");
+
+        return new PromptTemplate(id,
+                section.getString("message", ""),
+                Map.copyOf(localizedMessages),
+                section.getString("translation-key"),
+                Duration.ofSeconds(seconds),
+                section.getString("cancel", "cancel"),
+                inputType,
+                section.getString("anvil-text", "Enter input"),
+                bookLimit,
+                keywordSection != null ? ControlKeywords.fromConfig(keywordSection).compile() : null,
+                validationSection != null ? ValidationRules.fromConfig(validationSection).compile() : null,
+                normalizeSection != null ? InputNormalization.fromConfig(normalizeSection).compile() : null);
+    }
+}
@@ -0,0 +1,146 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base transport that queues messages per destination and sends each queue as one encoded batch
+ * when {@link #flush()} is called, typically once per tick. Batches larger than the payload limit of
+ * the transport are split.
+ */
+public abstract class BatchingTransport implements SessionTransport {
+    private static final Logger LOGGER = Logger.getLogger(BatchingTransport.class.getName());
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final String serverName;
+    private final Map<String, ConcurrentLinkedQueue<TransportMessage>> outgoing = new ConcurrentHashMap<>();
+    private volatile Consumer<TransportMessage> receiver = message -> {};
+
+    protected BatchingTransport(@NotNull String serverName) {
+        this.serverName = serverName;
+    }
+
+    @Override
+    public @NotNull String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public void send(@NotNull String destination, @NotNull TransportMessage message) {
+        outgoing.computeIfAbsent(destination, key -> new ConcurrentLinkedQueue<>()).offer(message);
+    }
+
+    @Override
+    public boolean sendNow(@NotNull String destination, @NotNull TransportMessage message, @NotNull Player via) {
+        byte[] payload = HandoffCodec.encode(List.of(message));
+        if (payload.length > getMaxPayloadSize()) {
+            LOGGER.warning("Not sending a session handoff message of " + payload.length + " bytes, above the transport limit");
+            return false;
+        }
+
+        return deliver(destination, payload, via);
+    }
+
+    @Override
+    public void setReceiver(@NotNull Consumer<TransportMessage> receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * Encodes and delivers the queued messages, one batch of up to 64 messages per destination at a time.
+     * Messages that cannot be delivered yet stay queued for the next flush.
+     */
+    public void flush() {
+        for (Map.Entry<String, ConcurrentLinkedQueue<TransportMessage>> entry : outgoing.entrySet()) {
+            ConcurrentLinkedQueue<TransportMessage> queue = entry.getValue();
+            if (queue.isEmpty()) continue;
+
+            while (!queue.isEmpty()) {
+                List<TransportMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+                TransportMessage message;
+                while (batch.size() < MAX_BATCH_SIZE && (message = queue.poll()) != null) batch.add(message);
+
+                int sent = deliverBatch(entry.getKey(), batch);
+                if (sent < batch.size()) {
+                    queue.addAll(batch.subList(sent, batch.size()));
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        outgoing.clear();
+    }
+
+    /**
+     * Gets the largest encoded batch this transport can deliver.
+     *
+     * @return The payload limit in bytes
+     */
+    protected int getMaxPayloadSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sends an encoded batch to a destination.
+     *
+     * @param destination The destination server, or {@link #BROADCAST}
+     * @param payload The encoded batch
+     * @param via The player whose connection carries the batch, or null to use any
+     * @return true if the batch was sent, false to retry on the next flush
+     */
+    protected abstract boolean deliver(@NotNull String destination, byte @NotNull [] payload, @Nullable Player via);
+
+    /**
+     * Encodes and delivers a batch, halving it until each part fits the payload limit.
+     * A single message above the limit can never be delivered and is dropped.
+     *
+     * @param destination The destination server, or {@link #BROADCAST}
+     * @param batch The messages
+     * @return The number of leading messages that were delivered or dropped
+     */
+    private int deliverBatch(@NotNull String destination, @NotNull List<TransportMessage> batch) {
+        byte[] payload = HandoffCodec.encode(batch);
+        if (payload.length <= getMaxPayloadSize()) return deliver(destination, payload, null) ? batch.size() : 0;
+
+        if (batch.size() == 1) {
+            LOGGER.warning("Dropping a session handoff message of " + payload.length + " bytes, above the transport limit");
+            return 1;
+        }
+
+        int middle = batch.size() / 2;
+        int sent = deliverBatch(destination, batch.subList(0, middle));
+        if (sent < middle) return sent;
+        return middle + deliverBatch(destination, batch.subList(middle, batch.size()));
+    }
+
+    /**
+     * Decodes a received batch and hands its messages to the receiver.
+     *
+     * @param payload The encoded batch
+     */
+    protected void receive(byte @NotNull [] payload) {
+        List<TransportMessage> messages;
+        try {
+            messages = HandoffCodec.decode(payload);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.log(Level.WARNING, "Discarding malformed session handoff batch", exception);
+            return;
+        }
+
+        Consumer<TransportMessage> current = receiver;
+        messages.forEach(current);
+    }
+}
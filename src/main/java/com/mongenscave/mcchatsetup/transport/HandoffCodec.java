@@ -0,0 +1,189 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of transport message batches.
+ * A batch is a version byte, a varint message count and the messages; strings are varint-length
+ * UTF-8 and numbers are varints, so a typical handoff fits in well under a hundred bytes.
+ */
+public final class HandoffCodec {
+    private static final byte VERSION = 1;
+    private static final byte TYPE_HANDOFF = 1;
+    private static final byte TYPE_RESULT = 2;
+    private static final SessionOutcome[] OUTCOMES = SessionOutcome.values();
+
+    private HandoffCodec() {
+    }
+
+    /**
+     * Encodes a batch of messages.
+     *
+     * @param messages The messages
+     * @return The encoded batch
+     */
+    public static byte @NotNull [] encode(@NotNull List<TransportMessage> messages) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION);
+        writer.writeVarLong(messages.size());
+
+        for (TransportMessage message : messages) {
+            switch (message) {
+                case SessionHandoff handoff -> {
+                    writer.writeByte(TYPE_HANDOFF);
+                    writer.writeString(handoff.originServer());
+                    writer.writeUuid(handoff.sessionId());
+                    writer.writeUuid(handoff.playerId());
+                    writer.writeString(handoff.templateId());
+                    writer.writeVarLong(Math.max(0, handoff.remainingMillis()));
+                    writer.writeVarLong(handoff.answers().size());
+                    handoff.answers().forEach(writer::writeString);
+                }
+                case SessionResult result -> {
+                    writer.writeByte(TYPE_RESULT);
+                    writer.writeUuid(result.sessionId());
+                    writer.writeUuid(result.playerId());
+                    writer.writeByte((byte) result.outcome().ordinal());
+                    writer.writeByte((byte) (result.input() != null ? 1 : 0));
+                    if (result.input() != null) writer.writeString(result.input());
+                }
+            }
+        }
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a batch of messages.
+     *
+     * @param data The encoded batch
+     * @return The messages
+     * @throws IllegalArgumentException if the data is malformed or uses another version
+     */
+    public static @NotNull List<TransportMessage> decode(byte @NotNull [] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) throw new IllegalArgumentException("Unsupported handoff version " + version);
+
+            int count = (int) readVarLong(buffer);
+            List<TransportMessage> messages = new ArrayList<>(Math.min(count, 64));
+
+            for (int i = 0; i < count; i++) {
+                byte type = buffer.get();
+                switch (type) {
+                    case TYPE_HANDOFF -> {
+                        String origin = readString(buffer);
+                        UUID sessionId = readUuid(buffer);
+                        UUID playerId = readUuid(buffer);
+                        String templateId = readString(buffer);
+                        long remaining = readVarLong(buffer);
+
+                        int answerCount = (int) readVarLong(buffer);
+                        List<String> answers = new ArrayList<>(Math.min(answerCount, 16));
+                        for (int j = 0; j < answerCount; j++) answers.add(readString(buffer));
+
+                        messages.add(new SessionHandoff(origin, sessionId, playerId, templateId, remaining, List.copyOf(answers)));
+                    }
+                    case TYPE_RESULT -> {
+                        UUID sessionId = readUuid(buffer);
+                        UUID playerId = readUuid(buffer);
+                        int ordinal = buffer.get();
+                        if (ordinal < 0 || ordinal >= OUTCOMES.length) throw new IllegalArgumentException("Unknown outcome " + ordinal);
+                        String input = buffer.get() != 0 ? readString(buffer) : null;
+
+                        messages.add(new SessionResult(sessionId, playerId, OUTCOMES[ordinal], input));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown message type " + type);
+                }
+            }
+
+            return messages;
+        } catch (BufferUnderflowException exception) {
+            throw new IllegalArgumentException("Truncated handoff batch", exception);
+        }
+    }
+
+    private static long readVarLong(@NotNull ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    private static @NotNull String readString(@NotNull ByteBuffer buffer) {
+        int length = (int) readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("Invalid string length " + length);
+
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static @NotNull UUID readUuid(@NotNull ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Growable byte writer.
+     */
+    private static final class Writer {
+        private byte[] bytes = new byte[128];
+        private int size;
+
+        private void writeByte(byte value) {
+            ensure(1);
+            bytes[size++] = value;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeString(@NotNull String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length);
+            ensure(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        private void writeUuid(@NotNull UUID value) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+
+        private void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensure(int additional) {
+            if (size + additional > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+
+        private byte @NotNull [] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory transport connecting servers in the same process, for tests and local development.
+ * Messages go through the same binary encoding and batching as network transports and are
+ * delivered synchronously when {@link #flush()} is called, or right away through {@link #sendNow}.
+ */
+public final class LoopbackTransport extends BatchingTransport {
+    private final Map<String, LoopbackTransport> network;
+
+    /**
+     * Creates a transport and joins it to a shared in-memory network.
+     *
+     * @param serverName The name of the simulated server
+     * @param network The network shared by every simulated server, keyed by server name
+     */
+    public LoopbackTransport(@NotNull String serverName, @NotNull Map<String, LoopbackTransport> network) {
+        super(serverName);
+        this.network = network;
+        network.put(serverName, this);
+    }
+
+    /**
+     * Creates an empty in-memory network.
+     *
+     * @return A new network map
+     */
+    public static @NotNull Map<String, LoopbackTransport> newNetwork() {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Override
+    protected boolean deliver(@NotNull String destination, byte @NotNull [] payload, @Nullable Player via) {
+        if (BROADCAST.equals(destination)) {
+            for (LoopbackTransport transport : network.values()) {
+                if (transport != this) transport.receive(payload);
+            }
+            return true;
+        }
+
+        LoopbackTransport target = network.get(destination);
+        if (target != null) target.receive(payload);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        network.remove(getServerName(), this);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import com.mongenscave.mcchatsetup.scheduler.SessionScheduler;
+import com.mongenscave.mcchatsetup.scheduler.TaskHandle;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.logging.Level;
+
+/**
+ * Transport over the proxy's {@code BungeeCord} plugin messaging channel, using its {@code Forward}
+ * sub-channel. Queued messages are flushed once per tick through any online player; batches wait
+ * while the server is empty. Handoffs of leaving players are sent right away through their own
+ * connection. The proxy only forwards to servers that have at least one player online.
+ */
+public final class PluginMessageTransport extends BatchingTransport implements PluginMessageListener {
+    private static final String PROXY_CHANNEL = "BungeeCord";
+    private static final String FORWARD = "Forward";
+    private static final String SUB_CHANNEL = "McChatSetupHandoff";
+    private static final int MAX_PAYLOAD_SIZE = 30_000;
+
+    private final JavaPlugin plugin;
+    private TaskHandle flushTask;
+
+    /**
+     * Creates the transport. Call {@link #start()} to register the channel.
+     *
+     * @param plugin The plugin registering the channel
+     * @param serverName The name of this server in the proxy configuration
+     */
+    public PluginMessageTransport(@NotNull JavaPlugin plugin, @NotNull String serverName) {
+        super(serverName);
+        this.plugin = plugin;
+    }
+
+    /**
+     * Registers the plugin messaging channel and starts flushing queued messages every tick.
+     */
+    public synchronized void start() {
+        if (flushTask != null) return;
+
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PROXY_CHANNEL);
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, PROXY_CHANNEL, this);
+        flushTask = SessionScheduler.create().runGlobalTimer(plugin, this::flush, 1L, 1L);
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (flushTask == null) return;
+
+        flushTask.cancel();
+        flushTask = null;
+        plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, PROXY_CHANNEL);
+        plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, PROXY_CHANNEL, this);
+    }
+
+    @Override
+    protected int getMaxPayloadSize() {
+        return MAX_PAYLOAD_SIZE;
+    }
+
+    @Override
+    protected boolean deliver(@NotNull String destination, byte @NotNull [] payload, @Nullable Player via) {
+        Player carrier = via;
+        if (carrier == null) {
+            Iterator<? extends Player> players = Bukkit.getOnlinePlayers().iterator();
+            if (!players.hasNext()) return false;
+            carrier = players.next();
+        } else if (!carrier.isOnline()) {
+            return false;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(FORWARD);
+            out.writeUTF(destination);
+            out.writeUTF(SUB_CHANNEL);
+            out.writeShort(payload.length);
+            out.write(payload);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to write handoff batch", exception);
+        }
+
+        carrier.sendPluginMessage(plugin, PROXY_CHANNEL, bytes.toByteArray());
+        return true;
+    }
+
+    @Override
+    public void onPluginMessageReceived(@NotNull String channel, @NotNull Player player, byte @NotNull [] message) {
+        if (!PROXY_CHANNEL.equals(channel)) return;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (!SUB_CHANNEL.equals(in.readUTF())) return;
+
+            byte[] payload = new byte[in.readUnsignedShort()];
+            in.readFully(payload);
+            receive(payload);
+        } catch (IOException exception) {
+            plugin.getLogger().log(Level.WARNING, "Discarding malformed session handoff message", exception);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A prompt handed to whichever server the player joins next.
+ *
+ * @param originServer The server that started the prompt and waits for its result
+ * @param sessionId The session ID on the origin server
+ * @param playerId The player answering the prompt
+ * @param templateId The ID of the prompt template to start
+ * @param remainingMillis The time left to answer
+ * @param answers The answers of earlier steps of the same flow
+ */
+public record SessionHandoff(@NotNull String originServer,
+                             @NotNull UUID sessionId,
+                             @NotNull UUID playerId,
+                             @NotNull String templateId,
+                             long remainingMillis,
+                             @NotNull List<String> answers) implements TransportMessage {
+}
@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Result of a handed-off prompt, sent back to the origin server.
+ *
+ * @param sessionId The session ID on the origin server
+ * @param playerId The player who answered
+ * @param outcome The outcome of the remote session
+ * @param input The accepted input, or null if the session did not succeed
+ */
+public record SessionResult(@NotNull UUID sessionId,
+                            @NotNull UUID playerId,
+                            @NotNull SessionOutcome outcome,
+                            @Nullable String input) implements TransportMessage {
+}
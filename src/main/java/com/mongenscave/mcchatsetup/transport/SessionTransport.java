@@ -0,0 +1,55 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries prompt handoffs and results between the servers of a network.
+ */
+public interface SessionTransport extends AutoCloseable {
+    /**
+     * Destination that delivers a message to every other server.
+     */
+    String BROADCAST = "ALL";
+
+    /**
+     * Gets the name of this server as known to the rest of the network.
+     *
+     * @return The server name
+     */
+    @NotNull String getServerName();
+
+    /**
+     * Queues a message for delivery. Queued messages are sent in one batch per destination.
+     *
+     * @param destination The destination server, or {@link #BROADCAST}
+     * @param message The message
+     */
+    void send(@NotNull String destination, @NotNull TransportMessage message);
+
+    /**
+     * Sends a message right away instead of with the next batch, through the connection of a player
+     * where the transport needs one. Used for the handoff of a player who is leaving.
+     *
+     * @param destination The destination server, or {@link #BROADCAST}
+     * @param message The message
+     * @param via The player whose connection carries the message
+     * @return true if the message was sent
+     */
+    boolean sendNow(@NotNull String destination, @NotNull TransportMessage message, @NotNull Player via);
+
+    /**
+     * Sets the receiver of messages addressed to this server.
+     *
+     * @param receiver The receiver
+     */
+    void setReceiver(@NotNull Consumer<TransportMessage> receiver);
+
+    /**
+     * Stops the transport, discarding messages that were not sent yet.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,7 @@
+package com.mongenscave.mcchatsetup.transport;
+
+/**
+ * Message exchanged between servers by a {@link SessionTransport}.
+ */
+public sealed interface TransportMessage permits SessionHandoff, SessionResult {
+}
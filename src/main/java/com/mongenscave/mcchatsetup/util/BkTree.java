@@ -0,0 +1,173 @@
+package com.mongenscave.mcchatsetup.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case-insensitive BK-tree over a fixed set of words for finding the closest words by edit distance.
+ * The triangle inequality lets a lookup skip every subtree outside the distance band of the query,
+ * so only a small part of the words is compared instead of scanning all of them. Built once and
+ * read concurrently.
+ */
+public final class BkTree {
+    private final Node root;
+    private final int size;
+
+    /**
+     * Builds a tree over words. Words equal ignoring case are kept once.
+     *
+     * @param words The words
+     */
+    public BkTree(@NotNull Collection<String> words) {
+        Node root = null;
+        int size = 0;
+
+        for (String word : words) {
+            Node node = new Node(word, word.toLowerCase(Locale.ROOT));
+            if (root == null) {
+                root = node;
+                size++;
+            } else if (root.insert(node)) {
+                size++;
+            }
+        }
+
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Finds the words closest to the input.
+     *
+     * @param input The input
+     * @param maxDistance The largest edit distance accepted
+     * @param limit The maximum number of words returned
+     * @return The closest words in their original case, nearest first
+     */
+    public @NotNull List<String> closest(@NotNull String input, int maxDistance, int limit) {
+        if (root == null || limit <= 0) return List.of();
+
+        String query = input.toLowerCase(Locale.ROOT);
+        List<Match> matches = new ArrayList<>();
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.removeLast();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance) matches.add(new Match(node.word, distance));
+
+            for (int i = 0; i < node.childCount; i++) {
+                if (Math.abs(node.childDistances[i] - distance) <= maxDistance) stack.add(node.children[i]);
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::distance));
+        List<String> words = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) words.add(matches.get(i).word());
+        return words;
+    }
+
+    /**
+     * Gets the number of distinct words.
+     *
+     * @return The number of words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings using two rolling rows.
+     *
+     * @param first The first string
+     * @param second The second string
+     * @return The edit distance
+     */
+    private static int distance(@NotNull String first, @NotNull String second) {
+        if (first.length() < second.length()) return distance(second, first);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char character = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (character == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[second.length()];
+    }
+
+    private record Match(@NotNull String word, int distance) {
+    }
+
+    /**
+     * Tree node with parallel child arrays, keyed by the distance of each child to this node.
+     */
+    private static final class Node {
+        private final String word;
+        private final String key;
+        private int[] childDistances = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        private Node(@NotNull String word, @NotNull String key) {
+            this.word = word;
+            this.key = key;
+        }
+
+        /**
+         * Inserts a node below this one.
+         *
+         * @param node The node to insert
+         * @return false if an equal word is already in the tree
+         */
+        private boolean insert(@NotNull Node node) {
+            Node parent = this;
+            while (true) {
+                int distance = distance(node.key, parent.key);
+                if (distance == 0) return false;
+
+                Node child = parent.child(distance);
+                if (child == null) {
+                    parent.add(distance, node);
+                    return true;
+                }
+                parent = child;
+            }
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (childDistances[i] == distance) return children[i];
+            }
+            return null;
+        }
+
+        private void add(int distance, @NotNull Node node) {
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                childDistances = Arrays.copyOf(childDistances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+
+            childDistances[childCount] = distance;
+            children[childCount++] = node;
+        }
+    }
+}
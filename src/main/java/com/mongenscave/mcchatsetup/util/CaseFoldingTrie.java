@@ -0,0 +1,144 @@
+package com.mongenscave.mcchatsetup.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Case-insensitive character trie mapping words to values.
+ * Keys and input are case-folded character by character while walking the trie, so lookups
+ * read the input once and never allocate a lower-cased copy. Built once and read concurrently.
+ *
+ * @param <V> The value type
+ */
+public final class CaseFoldingTrie<V> {
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    /**
+     * Adds a word, replacing the value of an existing equal word.
+     *
+     * @param word The word
+     * @param value The value associated with the word
+     */
+    public void put(@NotNull String word, @NotNull V value) {
+        Node<V> node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(fold(word.charAt(i)));
+        }
+
+        if (node.value == null) size++;
+        node.value = value;
+    }
+
+    /**
+     * Gets the value of a word matching the whole input region.
+     *
+     * @param input The input
+     * @param start The first index of the region, inclusive
+     * @param end The last index of the region, exclusive
+     * @return The value, or null if the region is not a word of this trie
+     */
+    public @Nullable V get(@NotNull CharSequence input, int start, int end) {
+        Node<V> node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(fold(input.charAt(i)));
+        }
+
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Gets the value of a word matching the whole input.
+     *
+     * @param input The input
+     * @return The value, or null if the input is not a word of this trie
+     */
+    public @Nullable V get(@NotNull CharSequence input) {
+        return get(input, 0, input.length());
+    }
+
+    /**
+     * Finds the first word of this trie that appears as a whole token of the input.
+     * Tokens are runs of letters and digits.
+     *
+     * @param input The input
+     * @return The value of the first matching word, or null if none appears
+     */
+    public @Nullable V findToken(@NotNull CharSequence input) {
+        int length = input.length();
+
+        for (int start = 0; start < length; start++) {
+            if (!Character.isLetterOrDigit(input.charAt(start))) continue;
+            if (start > 0 && Character.isLetterOrDigit(input.charAt(start - 1))) continue;
+
+            Node<V> node = root;
+            for (int i = start; i < length && node != null; i++) {
+                node = node.child(fold(input.charAt(i)));
+                if (node != null && node.value != null && (i + 1 == length || !Character.isLetterOrDigit(input.charAt(i + 1)))) {
+                    return node.value;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of words in this trie.
+     *
+     * @return The word count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Folds a character to its case-insensitive form.
+     *
+     * @param character The character
+     * @return The folded character
+     */
+    private static char fold(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Trie node with a small sorted child array, which is cheaper than a map for the low fan-out of words.
+     *
+     * @param <V> The value type
+     */
+    private static final class Node<V> {
+        private char[] labels = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<V>[] children = new Node[0];
+        private V value;
+
+        private @Nullable Node<V> child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private @NotNull Node<V> childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) return children[index];
+
+            int insertion = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+
+            newLabels[insertion] = label;
+            Node<V> created = new Node<>();
+            newChildren[insertion] = created;
+
+            labels = newLabels;
+            children = newChildren;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mongenscave.mcchatsetup.validation;
+
+import com.mongenscave.mcchatsetup.util.BkTree;
+import com.mongenscave.mcchatsetup.util.CaseFoldingTrie;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lookup structures for a set of allowed answers: a trie for exact matches and a BK-tree for
+ * "did you mean" suggestions. Indexes are cached by their values, so every rule and session
+ * using the same choice set shares one index.
+ */
+final class ChoiceIndex {
+    private static final int MAX_CACHED_INDEXES = 64;
+    private static final int MAX_SUGGESTIONS = 3;
+    private static final ConcurrentMap<List<String>, ChoiceIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final CaseFoldingTrie<Boolean> trie = new CaseFoldingTrie<>();
+    private final BkTree tree;
+    private final int maxLength;
+
+    private ChoiceIndex(@NotNull List<String> values) {
+        values.forEach(value -> trie.put(value, Boolean.TRUE));
+        this.tree = new BkTree(values);
+        this.maxLength = values.stream().mapToInt(String::length).max().orElse(0);
+    }
+
+    /**
+     * Gets the shared index of a choice set, building it on first use.
+     *
+     * @param values The allowed values
+     * @return The index
+     */
+    static @NotNull ChoiceIndex of(@NotNull Collection<String> values) {
+        List<String> key = List.copyOf(values);
+        ChoiceIndex cached = INDEXES.get(key);
+        if (cached != null) return cached;
+
+        if (INDEXES.size() >= MAX_CACHED_INDEXES) INDEXES.clear();
+        return INDEXES.computeIfAbsent(key, ChoiceIndex::new);
+    }
+
+    /**
+     * Checks whether the input is one of the values, ignoring case.
+     *
+     * @param input The input
+     * @return true if the input is allowed
+     */
+    boolean contains(@NotNull String input) {
+        return trie.get(input) != null;
+    }
+
+    /**
+     * Builds the rejection reason for an input, followed by the closest values if any are near.
+     *
+     * @param input The rejected input
+     * @param reason The MiniMessage rejection reason
+     * @param didYouMean The MiniMessage suggestion line with a {@code <suggestions>} placeholder, or null to omit it
+     * @return The rejection reason
+     */
+    @NotNull String reject(@NotNull String input, @NotNull String reason, @Nullable String didYouMean) {
+        String query = input.trim();
+        int maxDistance = Math.clamp(query.length() / 3, 1, 3);
+        if (didYouMean == null || query.isEmpty() || query.length() > maxLength + maxDistance) return reason;
+
+        List<String> suggestions = tree.closest(query, maxDistance, MAX_SUGGESTIONS);
+        if (suggestions.isEmpty()) return reason;
+
+        String joined = MiniMessage.miniMessage().escapeTags(String.join(", ", suggestions));
+        return reason + "<newline>" + didYouMean.replace("<suggestions>", joined);
+    }
+}
@@ -0,0 +1,39 @@
+package com.mongenscave.mcchatsetup.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Validator compiled from {@link ValidationRules}.
+ * Rules are ordered from cheapest to most expensive and evaluation stops at the first rejection,
+ * whose reason can be shown to the player.
+ */
+public final class CompiledValidator implements Predicate<String> {
+    private final ValidationRule[] rules;
+
+    CompiledValidator(@NotNull ValidationRule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Checks an input against every rule.
+     *
+     * @param input The input to check
+     * @return The MiniMessage rejection reason of the first failing rule, or null if the input is valid
+     */
+    public @Nullable String reject(@NotNull String input) {
+        for (ValidationRule rule : rules) {
+            String reason = rule.check().reject(input);
+            if (reason != null) return reason;
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean test(String input) {
+        return reject(input) == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mongenscave.mcchatsetup.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single compiled validation rule.
+ *
+ * @param cost The relative evaluation cost, cheaper rules run first
+ * @param check The check returning a rejection reason, or null if the input passes
+ */
+record ValidationRule(int cost, @NotNull Check check) {
+
+    /**
+     * Check performed by a rule.
+     */
+    @FunctionalInterface
+    interface Check {
+        @Nullable String reject(@NotNull String input);
+    }
+}
@@ -0,0 +1,317 @@
+package com.mongenscave.mcchatsetup.validation;
+
+import com.mongenscave.mcchatsetup.util.CaseFoldingTrie;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Declarative validation rules for session input.
+ * Rules are compiled once into a {@link CompiledValidator} with precompiled patterns and tries,
+ * so no regex or lookup structure is built per input.
+ */
+public final class ValidationRules {
+    private static final int COST_LENGTH = 0;
+    private static final int COST_CHARSET = 1;
+    private static final int COST_ONE_OF = 2;
+    private static final int COST_NUMBER = 3;
+    private static final int COST_BLACKLIST = 4;
+    private static final int COST_REGEX = 5;
+    private static final String DEFAULT_DID_YOU_MEAN = "<gray>Did you mean <white><suggestions></white>?";
+
+    private final List<ValidationRule> rules = new ArrayList<>();
+
+    private ValidationRules() {
+    }
+
+    /**
+     * Creates an empty rule set.
+     *
+     * @return A new rule set
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull ValidationRules create() {
+        return new ValidationRules();
+    }
+
+    /**
+     * Loads rules from a configuration section.
+     * Supported keys: {@code min-length}, {@code max-length}, {@code charset}, {@code regex},
+     * {@code min}, {@code max}, {@code integer}, {@code blacklist}, {@code one-of}, {@code suggest}, and
+     * {@code messages.<key>} to override the rejection reason of a rule or the {@code did-you-mean} line.
+     *
+     * @param section The configuration section
+     * @return The loaded rule set
+     */
+    public static @NotNull ValidationRules fromConfig(@NotNull ConfigurationSection section) {
+        ValidationRules rules = create();
+        ConfigurationSection messages = section.getConfigurationSection("messages");
+
+        if (section.isInt("min-length") || section.isInt("max-length")) {
+            int min = section.getInt("min-length", 0);
+            int max = section.getInt("max-length", Integer.MAX_VALUE);
+            rules.length(min, max, message(messages, "length", defaultLengthReason(min, max)));
+        }
+
+        if (section.isString("charset")) {
+            rules.charset(section.getString("charset", ""), message(messages, "charset", "<red>Your input contains characters that are not allowed."));
+        }
+
+        if (section.isSet("min") || section.isSet("max") || section.getBoolean("integer")) {
+            double min = section.getDouble("min", -Double.MAX_VALUE);
+            double max = section.getDouble("max", Double.MAX_VALUE);
+            boolean integer = section.getBoolean("integer");
+            rules.number(min, max, integer, message(messages, "number", defaultNumberReason(min, max, integer)));
+        }
+
+        if (section.isList("one-of")) {
+            rules.oneOf(section.getStringList("one-of"), message(messages, "one-of", "<red>That is not one of the allowed answers."),
+                    section.getBoolean("suggest", true) ? message(messages, "did-you-mean", DEFAULT_DID_YOU_MEAN) : null);
+        }
+
+        if (section.isList("blacklist")) {
+            rules.blacklist(section.getStringList("blacklist"), message(messages, "blacklist", "<red>Your input contains a blocked word."));
+        }
+
+        if (section.isString("regex")) {
+            rules.regex(section.getString("regex", ".*"), message(messages, "regex", "<red>Your input has an invalid format."));
+        }
+
+        return rules;
+    }
+
+    /**
+     * Requires the input length to be within bounds.
+     *
+     * @param min The minimum length, inclusive
+     * @param max The maximum length, inclusive
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules length(int min, int max) {
+        return length(min, max, defaultLengthReason(min, max));
+    }
+
+    /**
+     * Requires the input length to be within bounds.
+     *
+     * @param min The minimum length, inclusive
+     * @param max The maximum length, inclusive
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules length(int min, int max, @NotNull String reason) {
+        rules.add(new ValidationRule(COST_LENGTH, input -> input.length() < min || input.length() > max ? reason : null));
+        return this;
+    }
+
+    /**
+     * Requires every character of the input to be one of the allowed characters.
+     * Ranges can be written as {@code a-z}.
+     *
+     * @param allowed The allowed characters
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules charset(@NotNull String allowed) {
+        return charset(allowed, "<red>Your input contains characters that are not allowed.");
+    }
+
+    /**
+     * Requires every character of the input to be one of the allowed characters.
+     * Ranges can be written as {@code a-z}.
+     *
+     * @param allowed The allowed characters
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules charset(@NotNull String allowed, @NotNull String reason) {
+        BitSet characters = parseCharset(allowed);
+        rules.add(new ValidationRule(COST_CHARSET, input -> {
+            for (int i = 0; i < input.length(); i++) {
+                if (!characters.get(input.charAt(i))) return reason;
+            }
+            return null;
+        }));
+        return this;
+    }
+
+    /**
+     * Requires the input to be a number within bounds.
+     *
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @param integer Whether only whole numbers are allowed
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules number(double min, double max, boolean integer) {
+        return number(min, max, integer, defaultNumberReason(min, max, integer));
+    }
+
+    /**
+     * Requires the input to be a number within bounds.
+     *
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @param integer Whether only whole numbers are allowed
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules number(double min, double max, boolean integer, @NotNull String reason) {
+        rules.add(new ValidationRule(COST_NUMBER, input -> {
+            if (input.isEmpty() || input.length() > 32) return reason;
+
+            try {
+                double value = integer ? Long.parseLong(input) : Double.parseDouble(input);
+                return value < min || value > max || Double.isNaN(value) ? reason : null;
+            } catch (NumberFormatException exception) {
+                return reason;
+            }
+        }));
+        return this;
+    }
+
+    /**
+     * Requires the input to match a regular expression, compiled once.
+     *
+     * @param regex The regular expression the whole input must match
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules regex(@NotNull String regex) {
+        return regex(regex, "<red>Your input has an invalid format.");
+    }
+
+    /**
+     * Requires the input to match a regular expression, compiled once.
+     *
+     * @param regex The regular expression the whole input must match
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules regex(@NotNull String regex, @NotNull String reason) {
+        Pattern pattern = Pattern.compile(regex);
+        rules.add(new ValidationRule(COST_REGEX, input -> pattern.matcher(input).matches() ? null : reason));
+        return this;
+    }
+
+    /**
+     * Rejects input containing any of the given words as a whole word, ignoring case.
+     *
+     * @param words The blocked words
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules blacklist(@NotNull Collection<String> words) {
+        return blacklist(words, "<red>Your input contains a blocked word.");
+    }
+
+    /**
+     * Rejects input containing any of the given words as a whole word, ignoring case.
+     *
+     * @param words The blocked words
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules blacklist(@NotNull Collection<String> words, @NotNull String reason) {
+        CaseFoldingTrie<Boolean> trie = new CaseFoldingTrie<>();
+        words.forEach(word -> trie.put(word, Boolean.TRUE));
+
+        rules.add(new ValidationRule(COST_BLACKLIST, input -> trie.findToken(input) != null ? reason : null));
+        return this;
+    }
+
+    /**
+     * Requires the input to be one of the given values, ignoring case.
+     *
+     * @param values The allowed values
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules oneOf(@NotNull Collection<String> values) {
+        return oneOf(values, "<red>That is not one of the allowed answers.");
+    }
+
+    /**
+     * Requires the input to be one of the given values, ignoring case.
+     *
+     * @param values The allowed values
+     * @param reason The MiniMessage rejection reason
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules oneOf(@NotNull Collection<String> values, @NotNull String reason) {
+        return oneOf(values, reason, DEFAULT_DID_YOU_MEAN);
+    }
+
+    /**
+     * Requires the input to be one of the given values, ignoring case.
+     * Rejected input is answered with the closest values, looked up in an index shared by every rule
+     * using the same values.
+     *
+     * @param values The allowed values
+     * @param reason The MiniMessage rejection reason
+     * @param didYouMean The MiniMessage suggestion line with a {@code <suggestions>} placeholder, or null to disable suggestions
+     * @return This instance for method chaining
+     */
+    public @NotNull ValidationRules oneOf(@NotNull Collection<String> values, @NotNull String reason, @Nullable String didYouMean) {
+        ChoiceIndex index = ChoiceIndex.of(values);
+
+        rules.add(new ValidationRule(COST_ONE_OF, input -> index.contains(input) ? null : index.reject(input, reason, didYouMean)));
+        return this;
+    }
+
+    /**
+     * Compiles the rules into a validator, cheapest rules first.
+     *
+     * @return The compiled validator
+     */
+    public @NotNull CompiledValidator compile() {
+        return new CompiledValidator(rules.stream()
+                .sorted(Comparator.comparingInt(ValidationRule::cost))
+                .toArray(ValidationRule[]::new));
+    }
+
+    /**
+     * Parses an allowed character specification such as {@code a-zA-Z0-9_} into a bit set.
+     *
+     * @param allowed The specification
+     * @return The set of allowed characters
+     */
+    private static @NotNull BitSet parseCharset(@NotNull String allowed) {
+        BitSet characters = new BitSet(128);
+
+        for (int i = 0; i < allowed.length(); i++) {
+            char from = allowed.charAt(i);
+            if (i + 2 < allowed.length() && allowed.charAt(i + 1) == '-') {
+                characters.set(from, allowed.charAt(i + 2) + 1);
+                i += 2;
+            } else {
+                characters.set(from);
+            }
+        }
+
+        return characters;
+    }
+
+    private static @NotNull String message(ConfigurationSection messages, @NotNull String key, @NotNull String fallback) {
+        return messages != null ? messages.getString(key, fallback) : fallback;
+    }
+
+    private static @NotNull String defaultLengthReason(int min, int max) {
+        if (max == Integer.MAX_VALUE) return "<red>Your input must be at least " + min + " characters long.";
+        return "<red>Your input must be between " + min + " and " + max + " characters long.";
+    }
+
+    private static @NotNull String defaultNumberReason(double min, double max, boolean integer) {
+        String kind = integer ? "a whole number" : "a number";
+        if (min == -Double.MAX_VALUE && max == Double.MAX_VALUE) return "<red>Please enter " + kind + ".";
+        return "<red>Please enter " + kind + " between " + format(min) + " and " + format(max) + ".";
+    }
+
+    private static @NotNull String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SessionRecorderTest {
+    private static final UUID SESSION = UUID.randomUUID();
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotKeepsRecordingOrder() {
+        SessionRecorder recorder = new SessionRecorder(8);
+        recorder.record(SessionEventType.START, SESSION, null, PLAYER.toString());
+        recorder.record(SessionEventType.INPUT, SESSION, PLAYER, "yes");
+        recorder.record(SessionEventType.END, SESSION, null, "SUCCESS");
+
+        List<RecordedEvent> events = recorder.snapshot();
+        assertEquals(List.of(SessionEventType.START, SessionEventType.INPUT, SessionEventType.END),
+                events.stream().map(RecordedEvent::type).toList());
+        assertEquals(List.of(0L, 1L, 2L), events.stream().map(RecordedEvent::sequence).toList());
+        assertEquals(Thread.currentThread().getName(), events.getFirst().thread());
+        assertNull(events.getFirst().playerId());
+    }
+
+    @Test
+    void overwritesOldestEventsOnceFull() {
+        SessionRecorder recorder = new SessionRecorder(4);
+        for (int i = 0; i < 10; i++) recorder.record(SessionEventType.INPUT, SESSION, PLAYER, String.valueOf(i));
+
+        assertEquals(10L, recorder.getRecordedCount());
+        assertEquals(List.of("6", "7", "8", "9"), recorder.snapshot().stream().map(RecordedEvent::payload).toList());
+    }
+
+    @Test
+    void dumpAndLoadRoundTripEscapedPayloads() throws IOException {
+        SessionRecorder recorder = new SessionRecorder(16);
+        recorder.record(SessionEventType.START, SESSION, null, PLAYER.toString());
+        recorder.record(SessionEventType.INPUT, SESSION, PLAYER, "-");
+        recorder.record(SessionEventType.INPUT, SESSION, PLAYER, "tab\tnew\nline\rback\\slash");
+        recorder.record(SessionEventType.REJECT, SESSION, PLAYER, "");
+        recorder.record(SessionEventType.END, SESSION, null, null);
+
+        Path file = directory.resolve("recording.tsv");
+        recorder.dump(file);
+
+        assertEquals(recorder.snapshot(), SessionRecorder.load(file));
+    }
+
+    @Test
+    void loadRejectsOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("other.txt"), "not a recording\n");
+        assertThrows(IOException.class, () -> SessionRecorder.load(file));
+
+        Path malformed = Files.writeString(directory.resolve("malformed.tsv"), "# mcchatsetup session recording v1\n1\t2\tINPUT\n");
+        assertThrows(IOException.class, () -> SessionRecorder.load(malformed));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionRecorder(0));
+    }
+}
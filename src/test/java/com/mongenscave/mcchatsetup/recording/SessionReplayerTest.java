@@ -0,0 +1,153 @@
+package com.mongenscave.mcchatsetup.recording;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionEventType;
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import com.mongenscave.mcchatsetup.manager.ChatSessionManager;
+import com.mongenscave.mcchatsetup.model.ChatSession;
+import com.mongenscave.mcchatsetup.scheduler.ManualSessionScheduler;
+import com.mongenscave.mcchatsetup.scheduler.SessionScheduler;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionReplayerTest {
+    private static final UUID SESSION = UUID.randomUUID();
+
+    @TempDir
+    Path directory;
+
+    private JavaPlugin plugin;
+    private final Map<UUID, Player> players = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Server server = mock(Server.class);
+        when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+
+        plugin = mock(JavaPlugin.class);
+        when(plugin.getDataFolder()).thenReturn(directory.toFile());
+        when(plugin.getServer()).thenReturn(server);
+    }
+
+    @Test
+    void rejectsManagersOnOtherSchedulers() {
+        ChatSessionManager sessionManager = new ChatSessionManager(plugin, new ConcurrentHashMap<>(), mock(SessionScheduler.class));
+        assertThrows(IllegalArgumentException.class, () -> new SessionReplayer(sessionManager, playerId -> null, event -> null));
+    }
+
+    @Test
+    void emptyRecordingIsFaithful() {
+        ChatSessionManager sessionManager = new ChatSessionManager(plugin, new ConcurrentHashMap<>(), new ManualSessionScheduler());
+        ReplayResult result = new SessionReplayer(sessionManager, playerId -> null, event -> null).replay(List.of());
+
+        assertTrue(result.isFaithful());
+        assertEquals(-1, result.divergence());
+        assertEquals(List.of(), result.replayed());
+    }
+
+    @Test
+    void reportsDivergenceAndRestoresRecorder() {
+        ChatSessionManager sessionManager = new ChatSessionManager(plugin, new ConcurrentHashMap<>(), new ManualSessionScheduler());
+        SessionRecorder recorder = new SessionRecorder(16);
+        sessionManager.setRecorder(recorder);
+
+        List<RecordedEvent> recording = List.of(
+                new RecordedEvent(0, 0, SessionEventType.START, "main", SESSION, null, ""),
+                new RecordedEvent(1, 0, SessionEventType.TIMEOUT, "main", SESSION, null, null),
+                new RecordedEvent(2, 0, SessionEventType.END, "main", SESSION, null, "TIMEOUT"));
+        ReplayResult result = new SessionReplayer(sessionManager, playerId -> null, event -> null).replay(recording);
+
+        assertFalse(result.isFaithful());
+        assertEquals(0, result.divergence());
+        assertEquals(recording, result.recorded());
+        assertSame(recorder, sessionManager.getRecorder());
+        assertEquals(0L, recorder.getRecordedCount());
+    }
+
+    @Test
+    void replaysRecordedInterleavingFaithfully() {
+        Player alice = player("alice");
+        Player bob = player("bob");
+        Player carol = player("carol");
+
+        ManualSessionScheduler scheduler = new ManualSessionScheduler();
+        ChatSessionManager sessionManager = new ChatSessionManager(plugin, new ConcurrentHashMap<>(), scheduler);
+        SessionRecorder recorder = new SessionRecorder(64);
+        sessionManager.setRecorder(recorder);
+
+        List<String> recordedAnswers = new ArrayList<>();
+        UUID poll = sessionManager.startSession(session(true, recordedAnswers, alice, bob));
+        UUID prompt = sessionManager.startSession(session(false, recordedAnswers, carol));
+
+        type(sessionManager, poll, alice, "red");
+        type(sessionManager, poll, bob, "blue");
+        assertTrue(scheduler.runNext());
+        sessionManager.completeSession(prompt, SessionOutcome.TIMEOUT);
+        scheduler.runAll();
+
+        List<RecordedEvent> recording = recorder.snapshot();
+        assertEquals(List.of(SessionEventType.START, SessionEventType.START, SessionEventType.INPUT, SessionEventType.INPUT,
+                SessionEventType.CALLBACK, SessionEventType.TIMEOUT, SessionEventType.CALLBACK,
+                SessionEventType.END, SessionEventType.END), recording.stream().map(RecordedEvent::type).toList());
+        assertEquals(List.of("red", "blue"), recordedAnswers);
+
+        List<String> replayedAnswers = new ArrayList<>();
+        ChatSessionManager replayManager = new ChatSessionManager(plugin, new ConcurrentHashMap<>(), new ManualSessionScheduler());
+        ReplayResult result = new SessionReplayer(replayManager, players::get,
+                event -> session(event.sessionId().equals(poll), replayedAnswers)).replay(recording);
+
+        assertTrue(result.isFaithful());
+        assertEquals(recording.size(), result.replayed().size());
+        assertEquals(recordedAnswers, replayedAnswers);
+        assertEquals(0, replayManager.getActiveSessionCount());
+    }
+
+    private Player player(String name) {
+        Player player = mock(Player.class);
+        UUID playerId = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn(name);
+        when(player.isOnline()).thenReturn(true);
+        when(player.locale()).thenReturn(Locale.ENGLISH);
+        players.put(playerId, player);
+        return player;
+    }
+
+    private ChatSession session(boolean collectAll, List<String> answers, Player... participants) {
+        ChatSession session = new ChatSession();
+        session.setOwner(plugin);
+        session.setCollectAll(collectAll);
+        session.setOnInput(answers::add);
+        for (Player participant : participants) session.addPlayer(participant);
+        return session;
+    }
+
+    /**
+     * Sends input through the same steps as the chat handler.
+     */
+    private static void type(ChatSessionManager sessionManager, UUID sessionId, Player player, String input) {
+        if (sessionManager.handleControlInput(sessionId, player, input)) return;
+        if (sessionManager.validateInput(sessionId, player, input)) sessionManager.submitInput(sessionId, player, input);
+    }
+}
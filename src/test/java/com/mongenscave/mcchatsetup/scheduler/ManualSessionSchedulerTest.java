@@ -0,0 +1,59 @@
+package com.mongenscave.mcchatsetup.scheduler;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ManualSessionSchedulerTest {
+    private final Plugin plugin = mock(Plugin.class);
+    private final Player player = mock(Player.class);
+
+    @Test
+    void runsQueuedTasksInSubmissionOrder() {
+        ManualSessionScheduler scheduler = new ManualSessionScheduler();
+        List<String> order = new ArrayList<>();
+
+        scheduler.runForPlayer(plugin, player, () -> order.add("player"));
+        scheduler.runGlobal(plugin, () -> order.add("global"));
+        scheduler.runAsyncLater(plugin, () -> order.add("later"), 5, TimeUnit.SECONDS);
+        scheduler.runAsync(plugin, () -> {
+            order.add("async");
+            scheduler.runGlobal(plugin, () -> order.add("nested"));
+        });
+        scheduler.executeForPlayer(plugin, player, () -> order.add("immediate"));
+
+        assertEquals(List.of("immediate"), order);
+        assertEquals(4, scheduler.getQueuedCount());
+        assertTrue(scheduler.runNext());
+        assertEquals(List.of("immediate", "player"), order);
+
+        assertEquals(4, scheduler.runAll());
+        assertEquals(List.of("immediate", "player", "global", "later", "async", "nested"), order);
+        assertFalse(scheduler.runNext());
+    }
+
+    @Test
+    void ticksTimersUntilCancelled() {
+        ManualSessionScheduler scheduler = new ManualSessionScheduler();
+        List<String> order = new ArrayList<>();
+
+        TaskHandle first = scheduler.runGlobalTimer(plugin, () -> order.add("first"), 1L, 1L);
+        scheduler.runGlobalTimer(plugin, () -> order.add("second"), 1L, 1L);
+
+        scheduler.tick();
+        first.cancel();
+        scheduler.tick();
+
+        assertEquals(List.of("first", "second", "second"), order);
+        assertEquals(0, scheduler.getQueuedCount());
+    }
+}
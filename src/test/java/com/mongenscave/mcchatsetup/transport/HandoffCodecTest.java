@@ -0,0 +1,56 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandoffCodecTest {
+    private static final List<TransportMessage> BATCH = List.of(
+            new SessionHandoff("lobby", UUID.randomUUID(), UUID.randomUUID(), "shop-name", 42_000L, List.of("weapons", "äöü ✓")),
+            new SessionHandoff("survival", UUID.randomUUID(), UUID.randomUUID(), "confirm", 0L, List.of()),
+            new SessionResult(UUID.randomUUID(), UUID.randomUUID(), SessionOutcome.SUCCESS, "Diamond Shop"),
+            new SessionResult(UUID.randomUUID(), UUID.randomUUID(), SessionOutcome.TIMEOUT, null));
+
+    @Test
+    void roundTripsEveryMessageType() {
+        assertEquals(BATCH, HandoffCodec.decode(HandoffCodec.encode(BATCH)));
+    }
+
+    @Test
+    void roundTripsEmptyBatch() {
+        assertEquals(List.of(), HandoffCodec.decode(HandoffCodec.encode(List.of())));
+    }
+
+    @Test
+    void rejectsEveryTruncatedPrefix() {
+        byte[] encoded = HandoffCodec.encode(BATCH);
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(truncated), "prefix of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void rejectsOversizedCountsAndLengths() {
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(new byte[]{1, (byte) 0xC0, (byte) 0x84, 0x3D}));
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(new byte[]{1, 1, 1, 0x7F, 'a', 'b'}));
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0}));
+    }
+
+    @Test
+    void rejectsUnknownVersionTypeAndOutcome() {
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(new byte[]{2, 0}));
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(new byte[]{1, 1, 9}));
+
+        byte[] result = HandoffCodec.encode(List.of(new SessionResult(UUID.randomUUID(), UUID.randomUUID(), SessionOutcome.SUCCESS, null)));
+        result[result.length - 2] = (byte) SessionOutcome.values().length;
+        assertThrows(IllegalArgumentException.class, () -> HandoffCodec.decode(result));
+    }
+}
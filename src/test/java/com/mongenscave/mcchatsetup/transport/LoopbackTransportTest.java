@@ -0,0 +1,75 @@
+package com.mongenscave.mcchatsetup.transport;
+
+import com.mongenscave.mcchatsetup.identifiers.SessionOutcome;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LoopbackTransportTest {
+
+    @Test
+    void exchangesHandoffAndResult() {
+        Map<String, LoopbackTransport> network = LoopbackTransport.newNetwork();
+        LoopbackTransport origin = new LoopbackTransport("lobby", network);
+        LoopbackTransport target = new LoopbackTransport("survival", network);
+        LoopbackTransport bystander = new LoopbackTransport("creative", network);
+
+        List<TransportMessage> atOrigin = new ArrayList<>();
+        List<TransportMessage> atBystander = new ArrayList<>();
+        origin.setReceiver(atOrigin::add);
+        bystander.setReceiver(atBystander::add);
+        target.setReceiver(message -> {
+            if (message instanceof SessionHandoff handoff) {
+                target.send(handoff.originServer(), new SessionResult(handoff.sessionId(), handoff.playerId(),
+                        SessionOutcome.SUCCESS, handoff.answers().getLast() + " shop"));
+            }
+        });
+
+        SessionHandoff handoff = new SessionHandoff("lobby", UUID.randomUUID(), UUID.randomUUID(), "shop-name", 30_000L, List.of("weapons"));
+        assertTrue(origin.sendNow(SessionTransport.BROADCAST, handoff, mock(Player.class)));
+        assertEquals(List.of(handoff), atBystander);
+        assertEquals(List.of(), atOrigin);
+
+        target.flush();
+        assertEquals(List.of(new SessionResult(handoff.sessionId(), handoff.playerId(), SessionOutcome.SUCCESS, "weapons shop")), atOrigin);
+        assertEquals(List.of(handoff), atBystander);
+    }
+
+    @Test
+    void deliversQueuedMessagesInOrderAcrossBatches() {
+        Map<String, LoopbackTransport> network = LoopbackTransport.newNetwork();
+        LoopbackTransport sender = new LoopbackTransport("lobby", network);
+        LoopbackTransport receiver = new LoopbackTransport("survival", network);
+
+        List<TransportMessage> received = new ArrayList<>();
+        receiver.setReceiver(received::add);
+
+        List<TransportMessage> sent = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            SessionResult result = new SessionResult(UUID.randomUUID(), UUID.randomUUID(), SessionOutcome.CANCELLED, null);
+            sent.add(result);
+            sender.send("survival", result);
+        }
+
+        assertEquals(List.of(), received);
+        sender.flush();
+        assertEquals(sent, received);
+    }
+
+    @Test
+    void closeLeavesTheNetwork() {
+        Map<String, LoopbackTransport> network = LoopbackTransport.newNetwork();
+        LoopbackTransport transport = new LoopbackTransport("lobby", network);
+
+        transport.close();
+        assertTrue(network.isEmpty());
+    }
+}